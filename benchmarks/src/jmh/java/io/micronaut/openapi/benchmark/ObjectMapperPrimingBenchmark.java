@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.openapi.swagger.core.util.ObjectMapperFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the first serialization with a new object mapper, with and without priming of the serializer caches.
+ * Every invocation uses a fresh mapper, priming is done in the setup and isn't measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+public class ObjectMapperPrimingBenchmark {
+
+    @Param({"false", "true"})
+    public boolean primed;
+
+    private OpenAPI openApi;
+    private ObjectMapper mapper;
+
+    @Setup(Level.Trial)
+    public void createModel() {
+        openApi = OpenApiSerializationBenchmark.createOpenApi(100);
+    }
+
+    @Setup(Level.Iteration)
+    public void createMapper() {
+        mapper = ObjectMapperFactory.createJson();
+        if (primed) {
+            ObjectMapperFactory.prime(mapper);
+        }
+    }
+
+    @Benchmark
+    public String firstSerialization() throws JsonProcessingException {
+        return mapper.writeValueAsString(openApi);
+    }
+}
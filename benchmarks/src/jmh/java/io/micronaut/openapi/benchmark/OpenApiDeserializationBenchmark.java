@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micronaut.openapi.OpenApiUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of a large OpenAPI 3.1 document with type arrays, nested {@code additionalProperties}
+ * and parameters. Run with {@code -prof gc} to compare allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OpenApiDeserializationBenchmark {
+
+    @Param({"1000", "10000"})
+    public int schemas;
+
+    private String jsonContent;
+    private String yamlContent;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        var openApi = OpenApiSerializationBenchmark.createOpenApi(schemas);
+        openApi.openapi("3.1.0");
+        openApi.getComponents().getSchemas().forEach((name, schema) -> {
+            schema.types(Set.of("object"));
+            schema.additionalProperties(new Schema<>().types(Set.of("string", "null")));
+        });
+        openApi.getPaths().forEach((path, pathItem) ->
+            pathItem.getGet().addParametersItem(new QueryParameter().name("filter").schema(new Schema<>().types(Set.of("string")))));
+        jsonContent = OpenApiUtils.getJsonMapper31().writeValueAsString(openApi);
+        yamlContent = OpenApiUtils.getYamlMapper31().writeValueAsString(openApi);
+    }
+
+    @Benchmark
+    public OpenAPI readJson31() throws JsonProcessingException {
+        return OpenApiUtils.getJsonMapper31().readValue(jsonContent, OpenAPI.class);
+    }
+
+    @Benchmark
+    public OpenAPI readYaml31() throws JsonProcessingException {
+        return OpenApiUtils.getYamlMapper31().readValue(yamlContent, OpenAPI.class);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.micronaut.openapi.visitor.OpenApiConfigProperty;
+import io.micronaut.openapi.visitor.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full pipeline benchmark: in-process compilation of the synthetic application with OpenAPI visitors,
+ * including post-processing and serialization of the OpenAPI document.
+ * <p>
+ * Run with {@code ./gradlew :benchmarks:jmh}. Allocations are reported by the {@code gc} profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OpenApiProcessorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int controllers;
+
+    @Param({"1", "3"})
+    public int genericDepth;
+
+    @Param({"0", "4"})
+    public int groups;
+
+    private String source;
+
+    @Setup
+    public void setup() {
+        System.setProperty(Utils.ATTR_TEST_MODE, "true");
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED, "false");
+        source = SyntheticApi.generate(controllers, genericDepth, groups);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Utils.clean();
+        System.clearProperty(Utils.ATTR_TEST_MODE);
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED);
+    }
+
+    @Benchmark
+    public void compile(Blackhole blackhole) {
+        blackhole.consume(SyntheticApi.compile(source));
+        blackhole.consume(Utils.getTestReferences());
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micronaut.openapi.OpenApiUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a large OpenAPI model. Half of the schemas, media types and examples have explicit
+ * {@code null} example, so they are written with unwrapping serializers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OpenApiSerializationBenchmark {
+
+    private static final int PROPERTIES = 10;
+
+    @Param({"1000", "10000"})
+    public int schemas;
+
+    private OpenAPI openApi;
+    private String yamlContent;
+    private byte[] smileContent;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        openApi = createOpenApi(schemas);
+        yamlContent = OpenApiUtils.getYamlMapper().writeValueAsString(openApi);
+        smileContent = OpenApiUtils.getSmileMapper().writeValueAsBytes(openApi);
+    }
+
+    @Benchmark
+    public String json() throws JsonProcessingException {
+        return OpenApiUtils.getJsonMapper().writeValueAsString(openApi);
+    }
+
+    @Benchmark
+    public String json31() throws JsonProcessingException {
+        return OpenApiUtils.getJsonMapper31().writeValueAsString(openApi);
+    }
+
+    @Benchmark
+    public String yaml() throws JsonProcessingException {
+        return OpenApiUtils.getYamlMapper().writeValueAsString(openApi);
+    }
+
+    @Benchmark
+    public byte[] smile() throws JsonProcessingException {
+        return OpenApiUtils.getSmileMapper().writeValueAsBytes(openApi);
+    }
+
+    @Benchmark
+    public OpenAPI readYaml() throws JsonProcessingException {
+        return OpenApiUtils.getYamlMapper().readValue(yamlContent, OpenAPI.class);
+    }
+
+    @Benchmark
+    public OpenAPI readSmile() throws IOException {
+        return OpenApiUtils.readSmile(new ByteArrayInputStream(smileContent), false);
+    }
+
+    static OpenAPI createOpenApi(int schemaCount) {
+        var components = new Components();
+        var paths = new Paths();
+        for (int i = 0; i < schemaCount; i++) {
+            var name = "Schema" + i;
+            var schema = new ObjectSchema();
+            schema.setDescription("Description of " + name);
+            for (int j = 0; j < PROPERTIES; j++) {
+                Schema<?> property = j % 2 == 0 ? new StringSchema() : new IntegerSchema();
+                if (j % 2 == 0) {
+                    property.setExample(null);
+                }
+                schema.addProperty("property" + j, property);
+            }
+            schema.addProperty("items", new ArraySchema().items(new Schema<>().$ref(name)));
+            if (i % 2 == 0) {
+                schema.setExample(null);
+            }
+            components.addSchemas(name, schema);
+
+            var mediaType = new MediaType().schema(new Schema<>().$ref(name));
+            if (i % 2 == 0) {
+                mediaType.setExample(null);
+            } else {
+                mediaType.addExamples("example", new Example().summary("Example of " + name).value(null));
+            }
+            paths.addPathItem("/resource" + i, new PathItem().get(new Operation()
+                .operationId("get" + name)
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                    .description("OK")
+                    .content(new Content().addMediaType("application/json", mediaType))))));
+        }
+        return new OpenAPI()
+            .info(new Info().title("Benchmark").version("1.0"))
+            .paths(paths)
+            .components(components);
+    }
+}
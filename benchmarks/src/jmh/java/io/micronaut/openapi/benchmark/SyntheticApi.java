@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.micronaut.annotation.processing.test.JavaParser;
+import io.micronaut.openapi.visitor.Utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generator of synthetic Micronaut applications for the OpenAPI processor benchmarks.
+ * <p>
+ * Every controller has CRUD endpoints with own DTO graph: chain of DTOs with collections, maps
+ * and enums, which are returned wrapped in nested generic types.
+ */
+public final class SyntheticApi {
+
+    public static final String PACKAGE = "bench";
+    public static final String MAIN_CLASS = PACKAGE + ".Application";
+
+    private static final int DTO_CHAIN_LENGTH = 3;
+
+    private SyntheticApi() {
+    }
+
+    /**
+     * Generate source code of the application.
+     *
+     * @param controllers number of controllers
+     * @param genericDepth depth of the generic wrappers of the returned types
+     * @param groups number of OpenAPI groups, controllers are distributed between them; 0 - no groups
+     *
+     * @return source code
+     */
+    public static String generate(int controllers, int genericDepth, int groups) {
+        var sb = new StringBuilder(controllers * 4096);
+        sb.append("package ").append(PACKAGE).append(";\n\n")
+            .append("import java.time.OffsetDateTime;\n")
+            .append("import java.util.List;\n")
+            .append("import java.util.Map;\n")
+            .append("import java.util.Optional;\n\n")
+            .append("import io.micronaut.http.annotation.*;\n")
+            .append("import io.micronaut.openapi.annotation.OpenAPIGroup;\n")
+            .append("import io.swagger.v3.oas.annotations.OpenAPIDefinition;\n")
+            .append("import io.swagger.v3.oas.annotations.info.Info;\n")
+            .append("import io.swagger.v3.oas.annotations.media.Schema;\n")
+            .append("import io.swagger.v3.oas.annotations.tags.Tag;\n\n")
+            .append("@OpenAPIDefinition(info = @Info(title = \"Benchmark\", version = \"1.0\"))\n")
+            .append("public class Application {\n}\n\n");
+
+        appendGenericTypes(sb);
+        for (int i = 0; i < controllers; i++) {
+            appendController(sb, i, genericDepth, groups);
+            appendDtos(sb, i);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Compile the application in-process with OpenAPI visitors.
+     *
+     * @param source source code
+     *
+     * @return generated files
+     */
+    public static Iterable<? extends JavaFileObject> compile(String source) {
+        Utils.clean();
+        try (var parser = new JavaParser()) {
+            return parser.generate(MAIN_CLASS, source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void appendGenericTypes(StringBuilder sb) {
+        sb.append("""
+            class Wrapper<T> {
+
+                /**
+                 * Wrapped value.
+                 */
+                public T value;
+                public List<T> history;
+                public Map<String, T> byKey;
+            }
+
+            class Page<T> {
+
+                public List<T> content;
+                public int number;
+                public long totalSize;
+            }
+
+            enum Status {
+                ACTIVE, BLOCKED, DELETED
+            }
+
+            """);
+    }
+
+    private static void appendController(StringBuilder sb, int index, int genericDepth, int groups) {
+        var dto = "Dto" + index + "_0";
+        var wrapped = wrap(dto, genericDepth);
+        sb.append("/**\n * Controller number ").append(index).append(".\n */\n");
+        if (groups > 0) {
+            sb.append("@OpenAPIGroup(\"group").append(index % groups).append("\")\n");
+        }
+        sb.append("@Tag(name = \"tag").append(index).append("\")\n")
+            .append("@Controller(\"/api/res").append(index).append("\")\n")
+            .append("class Controller").append(index).append(" {\n\n")
+            .append("""
+                    /**
+                     * Find all items.
+                     *
+                     * @param page page number
+                     * @param size page size
+                     * @return page of items
+                     */
+                    @Get
+                    public Page<%2$s> list(@QueryValue Optional<Integer> page, @QueryValue Optional<Integer> size) {
+                        return null;
+                    }
+
+                    /**
+                     * Find item by id.
+                     *
+                     * @param id item id
+                     * @return the item
+                     */
+                    @Get("/{id}")
+                    public %2$s get(@PathVariable Long id) {
+                        return null;
+                    }
+
+                    @Post
+                    public %1$s create(@Body %1$s body) {
+                        return body;
+                    }
+
+                    @Put("/{id}")
+                    public %1$s update(@PathVariable Long id, @Body %1$s body, @Header("X-Request-Id") String requestId) {
+                        return body;
+                    }
+
+                    @Delete("/{id}")
+                    public void delete(@PathVariable Long id) {
+                    }
+                }
+
+                """.formatted(dto, wrapped));
+    }
+
+    private static void appendDtos(StringBuilder sb, int index) {
+        for (int i = 0; i < DTO_CHAIN_LENGTH; i++) {
+            var name = "Dto" + index + "_" + i;
+            sb.append("@Schema(description = \"").append(name).append(" description\")\n")
+                .append("class ").append(name).append(" {\n\n")
+                .append("    /**\n     * Identifier.\n     */\n")
+                .append("    public Long id;\n")
+                .append("    @Schema(minLength = 1, maxLength = 255)\n")
+                .append("    public String name;\n")
+                .append("    public Status status;\n")
+                .append("    public OffsetDateTime created;\n")
+                .append("    public List<String> labels;\n")
+                .append("    public Map<String, Integer> counters;\n");
+            if (i + 1 < DTO_CHAIN_LENGTH) {
+                var next = "Dto" + index + "_" + (i + 1);
+                sb.append("    public ").append(next).append(" child;\n")
+                    .append("    public List<").append(next).append("> children;\n")
+                    .append("    public Wrapper<").append(next).append("> wrappedChild;\n");
+            }
+            sb.append("}\n\n");
+        }
+    }
+
+    private static String wrap(String type, int depth) {
+        var result = type;
+        for (int i = 0; i < depth; i++) {
+            result = "Wrapper<" + result + ">";
+        }
+        return result;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micronaut.openapi.benchmark.SyntheticApi;
+import io.micronaut.openapi.visitor.group.OpenApiInfo;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the separate stages of OpenAPI post-processing. Synthetic application is compiled once,
+ * then the merged document is built from the endpoint infos and schemas of the compiled application
+ * with the same stages as in the visitor, and every invocation works with fresh copies of the merged
+ * and group documents.
+ * <p>
+ * The benchmark is in the visitor package to call package-private stages directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OpenApiStagesBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int controllers;
+
+    @Param({"3"})
+    public int genericDepth;
+
+    @Param({"4"})
+    public int groups;
+
+    private final OpenApiApplicationVisitor visitor = new OpenApiApplicationVisitor();
+    private String mergedDocument;
+    private List<String> groupDocuments;
+    private OpenAPI mergedOpenApi;
+    private List<OpenAPI> groupOpenApis;
+
+    @Setup(Level.Trial)
+    public void compile() throws JsonProcessingException {
+        System.setProperty(Utils.ATTR_TEST_MODE, "true");
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED, "false");
+        SyntheticApi.compile(SyntheticApi.generate(controllers, genericDepth, groups));
+        mergedDocument = Utils.getJsonMapper().writeValueAsString(buildMergedDocument());
+        // endpoint infos stay in Utils after compilation and are used by divideOpenapiByGroupsAndVersions
+        Map<Pair<String, String>, OpenApiInfo> openApiInfos = visitor.divideOpenapiByGroupsAndVersions(readDocument(mergedDocument), null);
+        groupDocuments = new ArrayList<>(openApiInfos.size());
+        for (var openApiInfo : openApiInfos.values()) {
+            groupDocuments.add(Utils.getJsonMapper().writeValueAsString(openApiInfo.getOpenApi()));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyDocuments() {
+        mergedOpenApi = readDocument(mergedDocument);
+        groupOpenApis = new ArrayList<>(groupDocuments.size());
+        for (var document : groupDocuments) {
+            groupOpenApis.add(readDocument(document));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Utils.clean();
+        System.clearProperty(Utils.ATTR_TEST_MODE);
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED);
+    }
+
+    @Benchmark
+    public List<OpenAPI> removeUnusedSchemas() {
+        for (var openApi : groupOpenApis) {
+            OpenApiApplicationVisitor.removeUnusedSchemas(openApi);
+        }
+        return groupOpenApis;
+    }
+
+    @Benchmark
+    public List<OpenAPI> normalizeOpenApi() {
+        for (var openApi : groupOpenApis) {
+            OpenApiNormalizeUtils.normalizeOpenApi(openApi, null);
+        }
+        return groupOpenApis;
+    }
+
+    @Benchmark
+    public Map<Pair<String, String>, OpenApiInfo> divideOpenapiByGroupsAndVersions() {
+        return visitor.divideOpenapiByGroupsAndVersions(mergedOpenApi, null);
+    }
+
+    /**
+     * Build merged document before dividing by groups: path items of all endpoints, schemas
+     * of all group documents and operations merged by the visitor stage.
+     *
+     * @return merged document
+     */
+    private OpenAPI buildMergedDocument() {
+        var paths = new Paths();
+        for (var endpointInfos : Utils.getEndpointInfos().values()) {
+            for (var endpointInfo : endpointInfos) {
+                paths.computeIfAbsent(endpointInfo.getUrl(), url -> new PathItem());
+            }
+        }
+        var components = new Components();
+        for (var openApiInfo : Utils.getTestReferences().values()) {
+            var groupComponents = openApiInfo.getOpenApi().getComponents();
+            if (groupComponents == null || groupComponents.getSchemas() == null) {
+                continue;
+            }
+            groupComponents.getSchemas().forEach((name, schema) -> {
+                if (components.getSchemas() == null || !components.getSchemas().containsKey(name)) {
+                    components.addSchemas(name, schema);
+                }
+            });
+        }
+        var openApi = new OpenAPI()
+            .paths(paths)
+            .components(components);
+        visitor.mergeMicronautEndpointInfos(openApi, null);
+        return openApi;
+    }
+
+    private static OpenAPI readDocument(String document) {
+        try {
+            return Utils.getJsonMapper().readValue(document, OpenAPI.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
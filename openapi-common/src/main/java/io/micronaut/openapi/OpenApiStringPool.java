@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of frequently repeated strings of the OpenAPI model: schema references, media types, type and format names.
+ * <p>
+ * Strings are canonicalized with the JVM string table, so pooled values are shared with string literals
+ * (for example, media type constants) and with field names interned by Jackson parsers. Pool collects
+ * the number of replaced duplicates and the estimated heap size of them.
+ *
+ * @since 6.14.0
+ */
+public final class OpenApiStringPool {
+
+    private static final int STRING_OBJECT_SIZE = 24;
+    private static final int ARRAY_HEADER_SIZE = 16;
+
+    private static final LongAdder DUPLICATES = new LongAdder();
+    private static final LongAdder SAVED_BYTES = new LongAdder();
+
+    private OpenApiStringPool() {
+    }
+
+    /**
+     * Return canonical instance of the string.
+     *
+     * @param value string value
+     *
+     * @return canonical string instance or null if value is null
+     */
+    public static String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = value.intern();
+        if (pooled != value) {
+            DUPLICATES.increment();
+            SAVED_BYTES.add(estimateSize(value));
+        }
+        return pooled;
+    }
+
+    /**
+     * @return number of duplicates replaced by canonical instances
+     */
+    public static long getDuplicates() {
+        return DUPLICATES.sum();
+    }
+
+    /**
+     * @return estimated number of heap bytes of replaced duplicates
+     */
+    public static long getSavedBytes() {
+        return SAVED_BYTES.sum();
+    }
+
+    /**
+     * Reset statistics.
+     */
+    public static void reset() {
+        DUPLICATES.reset();
+        SAVED_BYTES.reset();
+    }
+
+    /**
+     * Estimated heap size of the string with compressed oops and compact strings: string object
+     * and backing byte array (1 byte per char for Latin-1 strings, 2 bytes otherwise).
+     */
+    private static long estimateSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        long arraySize = ARRAY_HEADER_SIZE + (long) value.length() * bytesPerChar;
+        return STRING_OBJECT_SIZE + ((arraySize + 7) & ~7L);
+    }
+}
@@ -20,6 +20,12 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import io.micronaut.openapi.swagger.core.util.ObjectMapperFactory;
+import io.micronaut.openapi.swagger.core.util.SmileObjectMapperFactory;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Convert utilities methods.
@@ -29,6 +35,12 @@ import io.micronaut.openapi.swagger.core.util.ObjectMapperFactory;
 public final class OpenApiUtils {
 
     public static final String OPENAPI_31_VERSION = "3.1.0";
+    /**
+     * Extension of binary Smile OpenAPI files.
+     *
+     * @since 6.14.0
+     */
+    public static final String EXT_SMILE = ".smile";
 
     /**
      * The JSON mapper.
@@ -60,9 +72,56 @@ public final class OpenApiUtils {
      */
     public static final ObjectMapper YAML_MAPPER_31 = ObjectMapperFactory.createYaml31();
 
+    private static final String PRIMER_THREAD_NAME = "micronaut-openapi-mapper-primer";
+
+    private static CompletableFuture<Void> primed;
+    private static CompletableFuture<Void> primed31;
+
     private OpenApiUtils() {
     }
 
+    /**
+     * Start priming of JSON and YAML mappers in the background daemon thread: serializers and deserializers
+     * of all swagger model classes are resolved and cached by the mappers, which are returned by
+     * {@link #getJsonMapper()} and {@link #getYamlMapper()} (or 3.1 mappers). Priming is started only once,
+     * next calls return the same future.
+     *
+     * @param openapi31 prime OpenAPI 3.1 mappers
+     *
+     * @return future completed, when mappers are primed
+     *
+     * @since 6.14.0
+     */
+    public static synchronized CompletableFuture<Void> primeMappers(boolean openapi31) {
+        if (openapi31) {
+            if (primed31 == null) {
+                primed31 = prime(JSON_MAPPER_31, YAML_MAPPER_31);
+            }
+            return primed31;
+        }
+        if (primed == null) {
+            primed = prime(JSON_MAPPER, YAML_MAPPER);
+        }
+        return primed;
+    }
+
+    private static CompletableFuture<Void> prime(ObjectMapper jsonMapper, ObjectMapper yamlMapper) {
+        var future = new CompletableFuture<Void>();
+        var thread = new Thread(() -> {
+            try {
+                ObjectMapperFactory.prime(jsonMapper);
+                ObjectMapperFactory.prime(yamlMapper);
+                future.complete(null);
+            } catch (Throwable e) {
+                // mappers will resolve serializers on the first use
+                future.completeExceptionally(e);
+            }
+        }, PRIMER_THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+
     public static ObjectMapper getJsonMapper() {
         return JSON_MAPPER;
     }
@@ -82,4 +141,74 @@ public final class OpenApiUtils {
     public static ObjectMapper getYamlMapper31() {
         return YAML_MAPPER_31;
     }
+
+    /**
+     * Returns Smile mapper. Requires {@code jackson-dataformat-smile} in classpath.
+     *
+     * @return Smile mapper
+     *
+     * @since 6.14.0
+     */
+    public static ObjectMapper getSmileMapper() {
+        return SmileMappers.SMILE_MAPPER;
+    }
+
+    /**
+     * Returns Smile 3.1 mapper. Requires {@code jackson-dataformat-smile} in classpath.
+     *
+     * @return Smile 3.1 mapper
+     *
+     * @since 6.14.0
+     */
+    public static ObjectMapper getSmileMapper31() {
+        return SmileMappers.SMILE_MAPPER_31;
+    }
+
+    /**
+     * Read OpenAPI object from binary Smile file, generated by the annotation processor
+     * with {@code micronaut.openapi.smile.enabled} property. It's much faster than parsing YAML or JSON file.
+     * Requires {@code jackson-dataformat-smile} in classpath.
+     *
+     * @param in input stream with Smile content
+     * @param openapi31 is OpenAPI 3.1 document
+     *
+     * @return OpenAPI object
+     *
+     * @throws IOException if reading failed
+     * @since 6.14.0
+     */
+    public static OpenAPI readSmile(InputStream in, boolean openapi31) throws IOException {
+        return (openapi31 ? getSmileMapper31() : getSmileMapper()).readValue(in, OpenAPI.class);
+    }
+
+    /**
+     * Read OpenAPI object from Smile classpath resource, for example {@code META-INF/swagger/swagger.smile}.
+     * Requires {@code jackson-dataformat-smile} in classpath.
+     *
+     * @param resource resource name
+     * @param classLoader class loader
+     * @param openapi31 is OpenAPI 3.1 document
+     *
+     * @return OpenAPI object
+     *
+     * @throws IOException if resource not found or reading failed
+     * @since 6.14.0
+     */
+    public static OpenAPI readSmile(String resource, ClassLoader classLoader, boolean openapi31) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Resource not found: " + resource);
+            }
+            return readSmile(in, openapi31);
+        }
+    }
+
+    /**
+     * Smile mappers are created on first use, because Smile format is optional dependency.
+     */
+    private static final class SmileMappers {
+
+        private static final ObjectMapper SMILE_MAPPER = SmileObjectMapperFactory.createSmile(false);
+        private static final ObjectMapper SMILE_MAPPER_31 = SmileObjectMapperFactory.createSmile(true);
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.swagger.core.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+
+/**
+ * Base class of the serializers, which write explicitly set null value of the field
+ * (for example, {@code example: null}) after all other properties of the object.
+ * <p>
+ * The unwrapping serializer is a copy of the resolved default serializer, so it's created
+ * once in {@link #resolve(SerializerProvider)}, or lazily, if the serializer wasn't resolved.
+ *
+ * @param <T> serialized type
+ *
+ * @since 6.14.0
+ */
+public abstract class AbstractUnwrappingSerializer<T> extends JsonSerializer<T> implements ResolvableSerializer {
+
+    protected final JsonSerializer<Object> defaultSerializer;
+    private JsonSerializer<Object> unwrappingSerializer;
+
+    protected AbstractUnwrappingSerializer(JsonSerializer<Object> serializer) {
+        defaultSerializer = serializer;
+    }
+
+    @Override
+    public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
+        if (defaultSerializer instanceof ResolvableSerializer resolvableSerializer) {
+            resolvableSerializer.resolve(serializerProvider);
+        }
+        unwrappingSerializer = defaultSerializer.unwrappingSerializer(null);
+    }
+
+    /**
+     * Write object properties with the default serializer and then the null field.
+     *
+     * @param value serialized object
+     * @param nullFieldName name of the field with explicit null value
+     * @param jgen generator
+     * @param provider serializer provider
+     *
+     * @throws IOException if object can't be written
+     */
+    protected void serializeWithNullField(T value, String nullFieldName, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+        jgen.writeStartObject();
+        getUnwrappingSerializer().serialize(value, jgen, provider);
+        jgen.writeNullField(nullFieldName);
+        jgen.writeEndObject();
+    }
+
+    private JsonSerializer<Object> getUnwrappingSerializer() {
+        if (unwrappingSerializer == null) {
+            unwrappingSerializer = defaultSerializer.unwrappingSerializer(null);
+        }
+        return unwrappingSerializer;
+    }
+}
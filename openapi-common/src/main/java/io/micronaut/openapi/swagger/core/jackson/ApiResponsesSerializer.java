@@ -16,13 +16,16 @@
 package io.micronaut.openapi.swagger.core.jackson;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
 /**
@@ -38,12 +41,16 @@ public class ApiResponsesSerializer extends JsonSerializer<ApiResponses> {
         if (value != null && value.getExtensions() != null && !value.getExtensions().isEmpty()) {
             jgen.writeStartObject();
 
+            // canonical output: responses and extensions are sorted by keys, same as other maps
+            var sorted = provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
             if (!value.isEmpty()) {
-                for (Entry<String, ApiResponse> entry : value.entrySet()) {
+                Map<String, ApiResponse> responses = sorted ? new TreeMap<>(value) : value;
+                for (Entry<String, ApiResponse> entry : responses.entrySet()) {
                     jgen.writeObjectField(entry.getKey(), entry.getValue());
                 }
             }
-            for (Entry<String, Object> entry : value.getExtensions().entrySet()) {
+            Map<String, Object> extensions = sorted ? new TreeMap<>(value.getExtensions()) : value.getExtensions();
+            for (Entry<String, Object> entry : extensions.entrySet()) {
                 jgen.writeObjectField(entry.getKey(), entry.getValue());
             }
             jgen.writeEndObject();
@@ -16,13 +16,16 @@
 package io.micronaut.openapi.swagger.core.jackson;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.callbacks.Callback;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
 /**
@@ -39,19 +42,23 @@ public class CallbackSerializer extends JsonSerializer<Callback> {
         if (value != null && value.getExtensions() != null && !value.getExtensions().isEmpty()) {
             jgen.writeStartObject();
 
+            // canonical output: path items and extensions are sorted by keys, same as other maps
+            var sorted = provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
             // not a ref
             if (value.get$ref() == null || value.get$ref().isBlank()) {
                 if (!value.isEmpty()) {
                     // write map
-                    for (Entry<String, PathItem> entry : value.entrySet()) {
+                    Map<String, PathItem> pathItems = sorted ? new TreeMap<>(value) : value;
+                    for (Entry<String, PathItem> entry : pathItems.entrySet()) {
                         jgen.writeObjectField(entry.getKey(), entry.getValue());
                     }
                 }
             } else { // handle ref schema serialization skipping all other props ...
                 jgen.writeStringField("$ref", value.get$ref());
             }
-            for (String ext : value.getExtensions().keySet()) {
-                jgen.writeObjectField(ext, value.getExtensions().get(ext));
+            Map<String, Object> extensions = sorted ? new TreeMap<>(value.getExtensions()) : value.getExtensions();
+            for (Entry<String, Object> entry : extensions.entrySet()) {
+                jgen.writeObjectField(entry.getKey(), entry.getValue());
             }
             jgen.writeEndObject();
         } else {
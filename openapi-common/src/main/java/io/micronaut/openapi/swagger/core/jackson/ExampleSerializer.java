@@ -20,39 +20,25 @@ import java.io.IOException;
 import io.swagger.v3.oas.models.examples.Example;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
 
 /**
  * This class is copied from swagger-core library.
  *
  * @since 5.0.0
  */
-public class ExampleSerializer extends JsonSerializer<Example> implements ResolvableSerializer {
-
-    private JsonSerializer<Object> defaultSerializer;
+public class ExampleSerializer extends AbstractUnwrappingSerializer<Example> {
 
     public ExampleSerializer(JsonSerializer<Object> serializer) {
-        defaultSerializer = serializer;
-    }
-
-    @Override
-    public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
-        if (defaultSerializer instanceof ResolvableSerializer resolvableSerializer) {
-            resolvableSerializer.resolve(serializerProvider);
-        }
+        super(serializer);
     }
 
     @Override
     public void serialize(Example example, JsonGenerator jgen, SerializerProvider provider) throws IOException {
 
         if (example.getValueSetFlag() && example.getValue() == null) {
-            jgen.writeStartObject();
-            defaultSerializer.unwrappingSerializer(null).serialize(example, jgen, provider);
-            jgen.writeNullField("value");
-            jgen.writeEndObject();
+            serializeWithNullField(example, "value", jgen, provider);
         } else {
             defaultSerializer.serialize(example, jgen, provider);
         }
@@ -16,13 +16,16 @@
 package io.micronaut.openapi.swagger.core.jackson;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
 /**
@@ -38,12 +41,16 @@ public class PathsSerializer extends JsonSerializer<Paths> {
         if (value != null && value.getExtensions() != null && !value.getExtensions().isEmpty()) {
             jgen.writeStartObject();
 
+            // canonical output: paths and extensions are sorted by keys, same as other maps
+            var sorted = provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
             if (!value.isEmpty()) {
-                for (Entry<String, PathItem> entry : value.entrySet()) {
+                Map<String, PathItem> paths = sorted ? new TreeMap<>(value) : value;
+                for (Entry<String, PathItem> entry : paths.entrySet()) {
                     jgen.writeObjectField(entry.getKey(), entry.getValue());
                 }
             }
-            for (Entry<String, Object> entry : value.getExtensions().entrySet()) {
+            Map<String, Object> extensions = sorted ? new TreeMap<>(value.getExtensions()) : value.getExtensions();
+            for (Entry<String, Object> entry : extensions.entrySet()) {
                 jgen.writeObjectField(entry.getKey(), entry.getValue());
             }
             jgen.writeEndObject();
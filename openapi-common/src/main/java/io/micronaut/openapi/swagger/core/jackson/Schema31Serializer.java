@@ -20,29 +20,18 @@ import java.io.IOException;
 import io.swagger.v3.oas.models.media.Schema;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
 
 /**
  * This class is copied from swagger-core library.
  *
  * @since 4.6.0
  */
-public class Schema31Serializer extends JsonSerializer<Schema> implements ResolvableSerializer {
-
-    private final JsonSerializer<Object> defaultSerializer;
+public class Schema31Serializer extends AbstractUnwrappingSerializer<Schema> {
 
     public Schema31Serializer(JsonSerializer<Object> serializer) {
-        defaultSerializer = serializer;
-    }
-
-    @Override
-    public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
-        if (defaultSerializer instanceof ResolvableSerializer resolvableSerializer) {
-            resolvableSerializer.resolve(serializerProvider);
-        }
+        super(serializer);
     }
 
     @Override
@@ -53,10 +42,7 @@ public class Schema31Serializer extends JsonSerializer<Schema> implements Resolv
             return;
         }
         if (value.getExampleSetFlag() && value.getExample() == null) {
-            jgen.writeStartObject();
-            defaultSerializer.unwrappingSerializer(null).serialize(value, jgen, provider);
-            jgen.writeNullField("example");
-            jgen.writeEndObject();
+            serializeWithNullField(value, "example", jgen, provider);
         } else {
             defaultSerializer.serialize(value, jgen, provider);
         }
@@ -20,29 +20,18 @@ import java.io.IOException;
 import io.swagger.v3.oas.models.media.Schema;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
 
 /**
  * This class is copied from swagger-core library.
  *
  * @since 4.6.0
  */
-public class SchemaSerializer extends JsonSerializer<Schema> implements ResolvableSerializer {
-
-    private final JsonSerializer<Object> defaultSerializer;
+public class SchemaSerializer extends AbstractUnwrappingSerializer<Schema> {
 
     public SchemaSerializer(JsonSerializer<Object> serializer) {
-        defaultSerializer = serializer;
-    }
-
-    @Override
-    public void resolve(SerializerProvider serializerProvider) throws JsonMappingException {
-        if (defaultSerializer instanceof ResolvableSerializer resolvableSerializer) {
-            resolvableSerializer.resolve(serializerProvider);
-        }
+        super(serializer);
     }
 
     @Override
@@ -51,10 +40,7 @@ public class SchemaSerializer extends JsonSerializer<Schema> implements Resolvab
         if (value.get$ref() == null || value.get$ref().isBlank()) {
 
             if (value.getExampleSetFlag() && value.getExample() == null) {
-                jgen.writeStartObject();
-                defaultSerializer.unwrappingSerializer(null).serialize(value, jgen, provider);
-                jgen.writeNullField("example");
-                jgen.writeEndObject();
+                serializeWithNullField(value, "example", jgen, provider);
             } else {
                 defaultSerializer.serialize(value, jgen, provider);
             }
@@ -20,6 +20,8 @@ import java.math.BigDecimal;
 import java.util.Map;
 import java.util.Set;
 
+import io.micronaut.openapi.swagger.core.util.PooledStringDeserializer;
+
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -30,6 +32,7 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 /**
@@ -65,6 +68,12 @@ public abstract class Schema31Mixin {
     @JsonSerialize(using = TypeSerializer.class)
     public abstract Set<String> getTypes();
 
+    @JsonDeserialize(using = PooledStringDeserializer.class)
+    public abstract void set$ref(String value);
+
+    @JsonDeserialize(using = PooledStringDeserializer.class)
+    public abstract void setFormat(String value);
+
     @JsonAnyGetter
     public abstract Map<String, Object> getExtensions();
 
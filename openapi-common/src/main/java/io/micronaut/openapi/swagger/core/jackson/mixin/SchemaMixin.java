@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import io.micronaut.openapi.swagger.core.util.PooledStringDeserializer;
 import io.swagger.v3.oas.models.media.Schema;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
@@ -27,6 +28,7 @@ import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 /**
  * This class is copied from swagger-core library.
@@ -133,4 +135,13 @@ public abstract class SchemaMixin {
 
     @JsonIgnore
     public abstract Boolean getBooleanSchemaValue();
+
+    @JsonDeserialize(using = PooledStringDeserializer.class)
+    public abstract void set$ref(String value);
+
+    @JsonDeserialize(using = PooledStringDeserializer.class)
+    public abstract void setType(String value);
+
+    @JsonDeserialize(using = PooledStringDeserializer.class)
+    public abstract void setFormat(String value);
 }
@@ -16,23 +16,22 @@
 package io.micronaut.openapi.swagger.core.util;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-import io.micronaut.openapi.OpenApiUtils;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 /**
  * This class is copied from swagger-core library.
+ * <p>
+ * Values are read directly from the parser, without intermediate {@code JsonNode} tree of the whole object.
  *
  * @since 4.6.0
  */
@@ -43,25 +42,19 @@ public class ApiResponsesDeserializer extends JsonDeserializer<ApiResponses> {
     @Override
     public ApiResponses deserialize(JsonParser jp, DeserializationContext ctxt)
         throws IOException {
+        ObjectReader valueReader = StreamingDeserializerUtils.reader(ApiResponse.class, openapi31);
+        ObjectReader extensionReader = StreamingDeserializerUtils.reader(Object.class, openapi31);
 
-        final ObjectMapper mapper;
-        if (openapi31) {
-            mapper = OpenApiUtils.getJsonMapper31();
-        } else {
-            mapper = OpenApiUtils.getJsonMapper();
-        }
         ApiResponses result = new ApiResponses();
-        JsonNode node = jp.getCodec().readTree(jp);
-        ObjectNode objectNode = (ObjectNode) node;
         Map<String, Object> extensions = new LinkedHashMap<>();
-        for (Iterator<String> it = objectNode.fieldNames(); it.hasNext(); ) {
-            String childName = it.next();
-            JsonNode child = objectNode.get(childName);
+        for (JsonToken token = StreamingDeserializerUtils.firstField(jp, ctxt, ApiResponses.class); token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String childName = jp.currentName();
+            jp.nextToken();
             // if name start with `x-` consider it an extension
             if (childName.startsWith("x-")) {
-                extensions.put(childName, mapper.convertValue(child, Object.class));
+                extensions.put(childName, extensionReader.readValue(jp));
             } else {
-                result.put(childName, mapper.convertValue(child, ApiResponse.class));
+                result.put(childName, valueReader.readValue(jp));
             }
         }
         if (!extensions.isEmpty()) {
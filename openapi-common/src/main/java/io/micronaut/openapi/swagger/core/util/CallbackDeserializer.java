@@ -16,23 +16,23 @@
 package io.micronaut.openapi.swagger.core.util;
 
 import java.io.IOException;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-import io.micronaut.openapi.OpenApiUtils;
+import io.micronaut.openapi.OpenApiStringPool;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.callbacks.Callback;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 /**
  * This class is copied from swagger-core library.
+ * <p>
+ * Values are read directly from the parser, without intermediate {@code JsonNode} tree of the whole object.
  *
  * @since 4.6.0
  */
@@ -43,27 +43,21 @@ public class CallbackDeserializer extends JsonDeserializer<Callback> {
     @Override
     public Callback deserialize(JsonParser jp, DeserializationContext ctxt)
         throws IOException {
+        ObjectReader valueReader = StreamingDeserializerUtils.reader(PathItem.class, openapi31);
+        ObjectReader extensionReader = StreamingDeserializerUtils.reader(Object.class, openapi31);
 
-        final ObjectMapper mapper;
-        if (openapi31) {
-            mapper = OpenApiUtils.getJsonMapper31();
-        } else {
-            mapper = OpenApiUtils.getJsonMapper();
-        }
         Callback result = new Callback();
-        JsonNode node = jp.getCodec().readTree(jp);
-        ObjectNode objectNode = (ObjectNode) node;
         Map<String, Object> extensions = new LinkedHashMap<>();
-        for (Iterator<String> it = objectNode.fieldNames(); it.hasNext(); ) {
-            String childName = it.next();
-            JsonNode child = objectNode.get(childName);
+        for (JsonToken token = StreamingDeserializerUtils.firstField(jp, ctxt, Callback.class); token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String childName = jp.currentName();
+            jp.nextToken();
             // if name start with `x-` consider it an extension
             if (childName.startsWith("x-")) {
-                extensions.put(childName, mapper.convertValue(child, Object.class));
+                extensions.put(childName, extensionReader.readValue(jp));
             } else if (childName.equals("$ref")) {
-                result.$ref(child.asText());
+                result.$ref(OpenApiStringPool.intern(jp.getValueAsString()));
             } else {
-                result.put(childName, mapper.convertValue(child, PathItem.class));
+                result.put(childName, valueReader.readValue(jp));
             }
         }
         if (!extensions.isEmpty()) {
@@ -15,14 +15,108 @@
  */
 package io.micronaut.openapi.swagger.core.util;
 
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import io.micronaut.openapi.OpenApiStringPool;
+import io.micronaut.openapi.OpenApiUtils;
+import io.swagger.v3.oas.models.media.JsonSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
 /**
  * This class is copied from swagger-core library.
+ * <p>
+ * JSON schema is read from the parser in one pass: {@code type} and {@code additionalProperties} are handled
+ * while streaming and other fields are copied into compact token buffer instead of {@code JsonNode} tree.
  *
  * @since 4.6.0
  */
 public class Model31Deserializer extends ModelDeserializer {
 
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_ADDITIONAL_PROPERTIES = "additionalProperties";
+
     public Model31Deserializer() {
         openapi31 = true;
     }
+
+    @Override
+    public Schema deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+        JsonToken token = jp.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return new Schema().booleanSchemaValue(jp.getBooleanValue());
+        }
+        if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return super.deserialize(jp, ctxt);
+        }
+
+        ObjectMapper mapper = OpenApiUtils.getJsonMapper31();
+        Set<String> types = null;
+        boolean hasAdditionalProperties = false;
+        Object additionalProperties = null;
+
+        var buffer = new TokenBuffer(jp, ctxt);
+        buffer.writeStartObject();
+        for (token = StreamingDeserializerUtils.firstField(jp, ctxt, Schema.class); token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.currentName();
+            JsonToken valueToken = jp.nextToken();
+            if (FIELD_TYPE.equals(fieldName)) {
+                types = readTypes(jp, valueToken);
+            } else if (FIELD_ADDITIONAL_PROPERTIES.equals(fieldName)) {
+                hasAdditionalProperties = true;
+                if (valueToken == JsonToken.VALUE_TRUE || valueToken == JsonToken.VALUE_FALSE) {
+                    additionalProperties = jp.getBooleanValue();
+                } else if (valueToken == JsonToken.START_OBJECT) {
+                    additionalProperties = deserialize(jp, ctxt);
+                } else {
+                    additionalProperties = StreamingDeserializerUtils.reader(Boolean.class, true).readValue(jp);
+                }
+            } else {
+                buffer.writeFieldName(fieldName);
+                buffer.copyCurrentStructure(jp);
+            }
+        }
+        buffer.writeEndObject();
+
+        Schema schema;
+        try (JsonParser bufferParser = buffer.asParser(mapper)) {
+            schema = StreamingDeserializerUtils.reader(JsonSchema.class, true).readValue(bufferParser);
+        }
+        if (types != null) {
+            schema.types(types);
+        }
+        if (hasAdditionalProperties) {
+            schema.setAdditionalProperties(additionalProperties);
+        }
+        return schema;
+    }
+
+    private static Set<String> readTypes(JsonParser jp, JsonToken valueToken) throws IOException {
+        if (valueToken == JsonToken.VALUE_STRING) {
+            var types = new LinkedHashSet<String>(2);
+            types.add(OpenApiStringPool.intern(jp.getText()));
+            return types;
+        }
+        if (valueToken != JsonToken.START_ARRAY) {
+            jp.skipChildren();
+            return null;
+        }
+        Set<String> types = new LinkedHashSet<>();
+        for (JsonToken token = jp.nextToken(); token != JsonToken.END_ARRAY; token = jp.nextToken()) {
+            if (token == JsonToken.VALUE_STRING) {
+                types.add(OpenApiStringPool.intern(jp.getText()));
+            } else {
+                types.add(null);
+                jp.skipChildren();
+            }
+        }
+        return types;
+    }
 }
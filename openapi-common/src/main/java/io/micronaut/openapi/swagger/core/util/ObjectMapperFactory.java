@@ -16,6 +16,7 @@
 package io.micronaut.openapi.swagger.core.util;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.micronaut.openapi.swagger.core.jackson.ExampleSerializer;
@@ -51,20 +52,42 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.links.Link;
 import io.swagger.v3.oas.models.links.LinkParameter;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BinarySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ByteArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.DateSchema;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
 import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.EmailSchema;
 import io.swagger.v3.oas.models.media.Encoding;
 import io.swagger.v3.oas.models.media.EncodingProperty;
+import io.swagger.v3.oas.models.media.FileSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.JsonSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.PasswordSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.UUIDSchema;
 import io.swagger.v3.oas.models.media.XML;
+import io.swagger.v3.oas.models.parameters.CookieParameter;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
 import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.security.OAuthFlow;
 import io.swagger.v3.oas.models.security.OAuthFlows;
 import io.swagger.v3.oas.models.security.Scopes;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariable;
@@ -96,9 +119,80 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
  */
 public class ObjectMapperFactory {
 
+    /**
+     * Swagger model classes, which are used as root or runtime types in OpenAPI documents.
+     * Only root serializers and deserializers of these classes are prefetched, serializers
+     * of the non-final property types are still resolved dynamically by the runtime type.
+     */
+    private static final List<Class<?>> MODEL_CLASSES = List.of(
+        OpenAPI.class,
+        Components.class,
+        Paths.class,
+        PathItem.class,
+        Operation.class,
+        Parameter.class,
+        QueryParameter.class,
+        PathParameter.class,
+        HeaderParameter.class,
+        CookieParameter.class,
+        RequestBody.class,
+        ApiResponses.class,
+        ApiResponse.class,
+        Content.class,
+        MediaType.class,
+        Encoding.class,
+        Example.class,
+        Header.class,
+        Link.class,
+        Callback.class,
+        SecurityScheme.class,
+        SecurityRequirement.class,
+        Tag.class,
+        Server.class,
+        Info.class,
+        Schema.class,
+        ArraySchema.class,
+        BinarySchema.class,
+        BooleanSchema.class,
+        ByteArraySchema.class,
+        ComposedSchema.class,
+        DateSchema.class,
+        DateTimeSchema.class,
+        EmailSchema.class,
+        FileSchema.class,
+        IntegerSchema.class,
+        JsonSchema.class,
+        MapSchema.class,
+        NumberSchema.class,
+        ObjectSchema.class,
+        PasswordSchema.class,
+        StringSchema.class,
+        UUIDSchema.class
+    );
+
     private ObjectMapperFactory() {
     }
 
+    /**
+     * Eagerly resolve root serializers and deserializers of the swagger model classes. Resolved serializers
+     * and deserializers are stored in the caches of the mapper, so the first serialization resolves only
+     * serializers of the property types, which are not known before the runtime type of the value.
+     *
+     * @param mapper object mapper created by this factory
+     *
+     * @return the same object mapper
+     *
+     * @since 6.14.0
+     */
+    public static ObjectMapper prime(ObjectMapper mapper) {
+        for (var modelClass : MODEL_CLASSES) {
+            // object writer and reader prefetch root value serializer / deserializer into the shared caches
+            mapper.writerFor(modelClass);
+            mapper.readerFor(modelClass);
+        }
+        return mapper;
+    }
+
     public static ObjectMapper createJson() {
         return create(null, false);
     }
@@ -130,7 +224,7 @@ public class ObjectMapperFactory {
     }
 
     @SuppressWarnings("deprecation")
-    private static ObjectMapper create(JsonFactory jsonFactory, boolean openapi31) {
+    static ObjectMapper create(JsonFactory jsonFactory, boolean openapi31) {
         ObjectMapper mapper = jsonFactory == null ? new ObjectMapper() : new ObjectMapper(jsonFactory);
 
         if (!openapi31) {
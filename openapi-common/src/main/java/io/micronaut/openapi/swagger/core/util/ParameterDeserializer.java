@@ -17,7 +17,7 @@ package io.micronaut.openapi.swagger.core.util;
 
 import java.io.IOException;
 
-import io.micronaut.openapi.OpenApiUtils;
+import io.micronaut.openapi.OpenApiStringPool;
 import io.swagger.v3.oas.models.parameters.CookieParameter;
 import io.swagger.v3.oas.models.parameters.HeaderParameter;
 import io.swagger.v3.oas.models.parameters.Parameter;
@@ -25,15 +25,18 @@ import io.swagger.v3.oas.models.parameters.PathParameter;
 import io.swagger.v3.oas.models.parameters.QueryParameter;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * This class is copied from swagger-core library.
+ * <p>
+ * Parameter object is copied into compact token buffer instead of {@code JsonNode} tree, the fields
+ * {@code $ref}, {@code in} and {@code description} are captured while copying.
  *
  * @since 4.6.0
  */
@@ -46,43 +49,59 @@ public class ParameterDeserializer extends JsonDeserializer<Parameter> {
         throws IOException {
         Parameter result = null;
 
-        JsonNode node = jp.getCodec().readTree(jp);
-        JsonNode sub = node.get("$ref");
-        JsonNode inNode = node.get("in");
-        JsonNode desc = node.get("description");
+        String sub = null;
+        String in = null;
+        String desc = null;
+        var buffer = new TokenBuffer(jp, ctxt);
+        buffer.writeStartObject();
+        for (JsonToken token = StreamingDeserializerUtils.firstField(jp, ctxt, Parameter.class); token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String fieldName = jp.currentName();
+            JsonToken valueToken = jp.nextToken();
+            switch (fieldName) {
+                case "$ref" -> sub = OpenApiStringPool.intern(textValue(jp, valueToken));
+                case "in" -> in = textValue(jp, valueToken);
+                case "description" -> desc = textValue(jp, valueToken);
+                default -> {
+                    // other fields are only copied
+                }
+            }
+            buffer.writeFieldName(fieldName);
+            buffer.copyCurrentStructure(jp);
+        }
+        buffer.writeEndObject();
 
         if (sub != null) {
-            result = new Parameter().$ref(sub.asText());
+            result = new Parameter().$ref(sub);
             if (desc != null && openapi31) {
-                result.description(desc.asText());
-            }
-
-        } else if (inNode != null) {
-            String in = inNode.asText();
-
-            ObjectReader reader = null;
-            ObjectMapper mapper;
-            if (openapi31) {
-                mapper = OpenApiUtils.getJsonMapper31();
-            } else {
-                mapper = OpenApiUtils.getJsonMapper();
+                result.description(desc);
             }
 
-
+        } else if (in != null) {
+            Class<? extends Parameter> type = null;
             if ("query".equals(in)) {
-                reader = mapper.readerFor(QueryParameter.class);
+                type = QueryParameter.class;
             } else if ("header".equals(in)) {
-                reader = mapper.readerFor(HeaderParameter.class);
+                type = HeaderParameter.class;
             } else if ("path".equals(in)) {
-                reader = mapper.readerFor(PathParameter.class);
+                type = PathParameter.class;
             } else if ("cookie".equals(in)) {
-                reader = mapper.readerFor(CookieParameter.class);
+                type = CookieParameter.class;
             }
-            if (reader != null) {
-                result = reader.with(DeserializationFeature.READ_ENUMS_USING_TO_STRING).readValue(node);
+            if (type != null) {
+                ObjectReader reader = StreamingDeserializerUtils.reader(type, openapi31, DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+                try (JsonParser bufferParser = buffer.asParser(StreamingDeserializerUtils.mapper(openapi31))) {
+                    result = reader.readValue(bufferParser);
+                }
             }
         }
 
         return result;
     }
+
+    /**
+     * Text of the current value, the same as {@code JsonNode.asText()}: empty string for objects and arrays.
+     */
+    private static String textValue(JsonParser jp, JsonToken valueToken) throws IOException {
+        return valueToken.isScalarValue() ? jp.getText() : "";
+    }
 }
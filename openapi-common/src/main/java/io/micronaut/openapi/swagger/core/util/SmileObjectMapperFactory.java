@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.swagger.core.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Factory of object mappers for binary Smile format. It's separated from {@link ObjectMapperFactory},
+ * because {@code jackson-dataformat-smile} is optional dependency: this class is loaded only when
+ * Smile mapper is requested.
+ *
+ * @since 6.14.0
+ */
+public final class SmileObjectMapperFactory {
+
+    private SmileObjectMapperFactory() {
+    }
+
+    /**
+     * Create object mapper for binary Smile format. Requires {@code jackson-dataformat-smile} in classpath.
+     *
+     * @param openapi31 is OpenAPI 3.1 mapper
+     *
+     * @return Smile object mapper
+     */
+    public static ObjectMapper createSmile(boolean openapi31) {
+        return ObjectMapperFactory.create(new SmileFactory(), openapi31);
+    }
+}
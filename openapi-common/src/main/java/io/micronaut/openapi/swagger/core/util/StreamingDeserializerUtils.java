@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.swagger.core.util;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micronaut.openapi.OpenApiUtils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Utilities for token-streaming deserializers: objects are read field by field directly
+ * from the parser without intermediate {@code JsonNode} trees.
+ *
+ * @since 6.14.0
+ */
+final class StreamingDeserializerUtils {
+
+    /**
+     * Object readers are immutable and OpenAPI mappers are singletons, so readers are created once
+     * for every target type, OpenAPI version and deserialization feature.
+     */
+    private static final Map<ReaderKey, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private StreamingDeserializerUtils() {
+    }
+
+    /**
+     * @param openapi31 is OpenAPI 3.1 mapper
+     *
+     * @return OpenAPI JSON mapper
+     */
+    static ObjectMapper mapper(boolean openapi31) {
+        return openapi31 ? OpenApiUtils.getJsonMapper31() : OpenApiUtils.getJsonMapper();
+    }
+
+    /**
+     * Return cached object reader of the OpenAPI JSON mapper.
+     *
+     * @param type target type
+     * @param openapi31 is OpenAPI 3.1 mapper
+     *
+     * @return object reader
+     */
+    static ObjectReader reader(Class<?> type, boolean openapi31) {
+        return reader(type, openapi31, null);
+    }
+
+    /**
+     * Return cached object reader of the OpenAPI JSON mapper.
+     *
+     * @param type target type
+     * @param openapi31 is OpenAPI 3.1 mapper
+     * @param feature enabled deserialization feature or null
+     *
+     * @return object reader
+     */
+    static ObjectReader reader(Class<?> type, boolean openapi31, DeserializationFeature feature) {
+        var key = new ReaderKey(type, openapi31, feature);
+        ObjectReader reader = READERS.get(key);
+        if (reader == null) {
+            // not computeIfAbsent: creating reader resolves deserializers, which can request other readers
+            reader = mapper(openapi31).readerFor(type);
+            if (feature != null) {
+                reader = reader.with(feature);
+            }
+            READERS.put(key, reader);
+        }
+        return reader;
+    }
+
+    /**
+     * Move parser to the first field of the current object.
+     *
+     * @param jp parser, positioned at {@code START_OBJECT} or the first {@code FIELD_NAME}
+     * @param ctxt deserialization context
+     * @param type target type, used in the error message
+     *
+     * @return current token: {@code FIELD_NAME} or {@code END_OBJECT} for empty object
+     *
+     * @throws IOException if the current value is not an object
+     */
+    static JsonToken firstField(JsonParser jp, DeserializationContext ctxt, Class<?> type) throws IOException {
+        var token = jp.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            ctxt.reportWrongTokenException(type, JsonToken.START_OBJECT, "Expected object value for " + type.getSimpleName());
+        }
+        return token;
+    }
+
+    private record ReaderKey(
+        Class<?> type,
+        boolean openapi31,
+        DeserializationFeature feature
+    ) {
+    }
+}
@@ -16,6 +16,7 @@
 package io.micronaut.openapi.javadoc;
 
 import com.github.chhorz.javadoc.JavaDoc;
+import com.github.chhorz.javadoc.JavaDocParser;
 import com.github.chhorz.javadoc.JavaDocParserBuilder;
 import com.github.chhorz.javadoc.OutputType;
 import com.github.chhorz.javadoc.tags.DeprecatedTag;
@@ -25,7 +26,10 @@ import com.github.chhorz.javadoc.tags.ReturnTag;
 import com.vladsch.flexmark.html2md.converter.FlexmarkHtmlConverter;
 import io.micronaut.core.util.CollectionUtils;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Very simple javadoc parser that can used to parse out the first paragraph description and parameter / return descriptions.
@@ -38,8 +42,21 @@ public class JavadocParser {
 
     private static final Set<String> IGNORED = CollectionUtils.setOf("see", "since", "author", "version", "throws", "exception", "category");
 
+    private static final String PLAIN_TEXT_PUNCTUATION = " .,;:!?()'\"/%$@=";
+
     private final FlexmarkHtmlConverter htmlToMarkdownConverter = FlexmarkHtmlConverter.builder()
         .build();
+    private final JavaDocParser javaDocParser = JavaDocParserBuilder
+        .withAllKnownTags()
+        .withOutputType(OutputType.HTML)
+        .build();
+    /**
+     * Parsed descriptions by javadoc text. The same javadoc is parsed many times
+     * for inherited and overridden methods, so results are reused.
+     */
+    private final Map<String, JavadocDescription> descriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger convertedCount = new AtomicInteger();
+    private final AtomicInteger skippedCount = new AtomicInteger();
 
     /**
      * Parse the javadoc in a {@link JavadocDescription}.
@@ -54,16 +71,31 @@ public class JavadocParser {
             return null;
         }
 
-        var javaDocParser = JavaDocParserBuilder
-            .withAllKnownTags()
-            .withOutputType(OutputType.HTML)
-            .build();
+        var javadocDescription = descriptions.computeIfAbsent(text.strip(), this::doParse);
+        return copy(javadocDescription);
+    }
 
-        JavaDoc javaDoc = javaDocParser.parse(text.strip());
+    /**
+     * @return number of fragments converted from HTML to markdown
+     */
+    public int getConvertedCount() {
+        return convertedCount.get();
+    }
+
+    /**
+     * @return number of plain text fragments, which were used without HTML to markdown conversion
+     */
+    public int getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    private JavadocDescription doParse(String text) {
+
+        JavaDoc javaDoc = javaDocParser.parse(text);
 
         var javadocDescription = new JavadocDescription();
-        javadocDescription.setMethodSummary(htmlToMarkdownConverter.convert(javaDoc.getSummary()).strip());
-        javadocDescription.setMethodDescription(htmlToMarkdownConverter.convert(javaDoc.getDescription()).strip());
+        javadocDescription.setMethodSummary(toMarkdown(javaDoc.getSummary()));
+        javadocDescription.setMethodDescription(toMarkdown(javaDoc.getDescription()));
 
         if (CollectionUtils.isNotEmpty(javaDoc.getTags())) {
             for (var tag : javaDoc.getTags()) {
@@ -71,19 +103,66 @@ public class JavadocParser {
                     continue;
                 }
                 if (tag instanceof ReturnTag returnTag) {
-                    javadocDescription.setReturnDescription(htmlToMarkdownConverter.convert(returnTag.getDescription()).strip());
+                    javadocDescription.setReturnDescription(toMarkdown(returnTag.getDescription()));
                 } else if (tag instanceof ParamTag paramTag) {
-                    String paramDesc = htmlToMarkdownConverter.convert(paramTag.getParamDescription()).strip();
+                    String paramDesc = toMarkdown(paramTag.getParamDescription());
                     javadocDescription.getParameters().put(paramTag.getParamName(), paramDesc);
                 } else if (tag instanceof PropertyTag propertyTag) {
-                    String paramDesc = htmlToMarkdownConverter.convert(propertyTag.getParamDescription()).strip();
+                    String paramDesc = toMarkdown(propertyTag.getParamDescription());
                     javadocDescription.getParameters().put(propertyTag.getPropertyName(), paramDesc);
                 } else if (tag instanceof DeprecatedTag deprecatedTag) {
-                    javadocDescription.setDeprecatedDescription(htmlToMarkdownConverter.convert(deprecatedTag.getDeprecatedText()).strip());
+                    javadocDescription.setDeprecatedDescription(toMarkdown(deprecatedTag.getDeprecatedText()));
                 }
             }
         }
 
         return javadocDescription;
     }
+
+    private String toMarkdown(String html) {
+        var text = html.strip();
+        if (isPlainText(text)) {
+            skippedCount.incrementAndGet();
+            return text;
+        }
+        convertedCount.incrementAndGet();
+        return htmlToMarkdownConverter.convert(html).strip();
+    }
+
+    /**
+     * Checks that the text has no HTML markup, markdown special characters or whitespaces,
+     * which can be changed by the converter, so the converter will return the same text.
+     *
+     * @param text The text
+     *
+     * @return true if the text can be used without conversion
+     */
+    private static boolean isPlainText(String text) {
+        if (!text.isEmpty() && Character.isDigit(text.charAt(0))) {
+            // can be converted to escaped ordered list item
+            return false;
+        }
+        char prev = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ' && prev == ' ') {
+                return false;
+            }
+            if (!Character.isLetterOrDigit(c) && PLAIN_TEXT_PUNCTUATION.indexOf(c) < 0) {
+                return false;
+            }
+            prev = c;
+        }
+        return true;
+    }
+
+    private static JavadocDescription copy(JavadocDescription javadocDescription) {
+        var result = new JavadocDescription();
+        result.setMethodSummary(javadocDescription.getMethodSummary());
+        result.setMethodDescription(javadocDescription.getMethodDescription());
+        result.setReturnDescription(javadocDescription.getReturnDescription());
+        result.setDeprecatedDescription(javadocDescription.getDeprecatedDescription());
+        result.getParameters().putAll(javadocDescription.getParameters());
+        return result;
+    }
 }
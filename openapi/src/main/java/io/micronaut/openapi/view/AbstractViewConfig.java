@@ -62,6 +62,10 @@ abstract class AbstractViewConfig implements Toggleable {
     protected String templatePath;
     protected boolean isDefaultJsUrl = true;
     protected boolean copyResources = true;
+    /**
+     * Copy resources with content-hashed file names and gzip variants.
+     */
+    protected boolean hashedResources;
     protected boolean withFinalUrlPrefixCache = true;
     protected String primaryName;
     protected Boolean withUrls;
@@ -96,7 +100,28 @@ abstract class AbstractViewConfig implements Toggleable {
         return templatePath;
     }
 
-    public abstract String render(String template, @Nullable VisitorContext context);
+    /**
+     * Put values of the view placeholders.
+     *
+     * @param placeholders placeholder values
+     * @param context Visitor context.
+     */
+    abstract void putPlaceholders(Map<String, String> placeholders, @Nullable VisitorContext context);
+
+    /**
+     * Put file names of the resources as values of the placeholders with the same names.
+     * Templates reference resources with these placeholders, so content-hashed file names
+     * are written by the template render.
+     *
+     * @param placeholders placeholder values
+     * @param hashedNames map of the original resource file names to content-hashed file names
+     */
+    void putResourceNames(Map<String, String> placeholders, Map<String, String> hashedNames) {
+        for (String resource : getResources()) {
+            String fileName = resource.substring(resource.lastIndexOf(SLASH) + 1);
+            placeholders.put(fileName, hashedNames.getOrDefault(fileName, fileName));
+        }
+    }
 
     /**
      * Adds an option.
@@ -179,6 +204,10 @@ abstract class AbstractViewConfig implements Toggleable {
         if (StringUtils.isNotEmpty(copyResources) && "false".equalsIgnoreCase(copyResources)) {
             cfg.copyResources = false;
         }
+        String hashedResources = properties.get(cfg.prefix + "hashed-resources");
+        if (StringUtils.isNotEmpty(hashedResources) && "true".equalsIgnoreCase(hashedResources)) {
+            cfg.hashedResources = true;
+        }
 
         cfg.withUrls = cfg.openApiInfos != null && (cfg.openApiInfos.size() > 1 || cfg.openApiInfos.get(Pair.NULL_STRING_PAIR) == null);
 
@@ -16,7 +16,6 @@
 package io.micronaut.openapi.view;
 
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.view.OpenApiViewConfig.RendererType;
 import io.micronaut.openapi.visitor.Pair;
@@ -28,6 +27,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 
+import static io.micronaut.openapi.view.OpenApiViewConfig.putPlaceholder;
 import static io.micronaut.openapi.visitor.StringUtil.SLASH;
 
 /**
@@ -131,10 +131,10 @@ final class OpenApiExplorerConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
-        template = rapiPDFConfig.render(template, RendererType.OPENAPI_EXPLORER, context);
-        template = OpenApiViewConfig.replacePlaceHolder(template, "openapi-explorer.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.OPENAPI_EXPLORER, context) : jsUrl, StringUtils.EMPTY_STRING);
-        return OpenApiViewConfig.replacePlaceHolder(template, "openapi-explorer.attributes", toHtmlAttributes(), StringUtils.EMPTY_STRING);
+    void putPlaceholders(Map<String, String> placeholders, @Nullable VisitorContext context) {
+        rapiPDFConfig.putPlaceholders(placeholders, RendererType.OPENAPI_EXPLORER, context);
+        putPlaceholder(placeholders, "openapi-explorer.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.OPENAPI_EXPLORER, context) : jsUrl);
+        putPlaceholder(placeholders, "openapi-explorer.attributes", toHtmlAttributes());
     }
 
     @Override
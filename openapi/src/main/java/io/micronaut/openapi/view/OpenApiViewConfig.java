@@ -24,10 +24,10 @@ import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.visitor.ConfigUtils;
 import io.micronaut.openapi.visitor.ContextUtils;
 import io.micronaut.openapi.visitor.Pair;
+import io.micronaut.openapi.visitor.ParallelUtils;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -35,21 +35,24 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 
 import static io.micronaut.openapi.visitor.ConfigUtils.getProjectPath;
 import static io.micronaut.openapi.visitor.ContextUtils.addGeneratedResource;
 import static io.micronaut.openapi.visitor.ContextUtils.info;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
 import static io.micronaut.openapi.visitor.FileUtils.readFile;
+import static io.micronaut.openapi.visitor.FileUtils.registerPrecompressed;
 import static io.micronaut.openapi.visitor.FileUtils.resolve;
+import static io.micronaut.openapi.visitor.FileUtils.sha256Hex;
+import static io.micronaut.openapi.visitor.FileUtils.writePrecompressed;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_CONTEXT_SERVER_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_SERVER_CONTEXT_PATH;
 import static io.micronaut.openapi.visitor.StringUtil.COMMA;
@@ -85,6 +88,8 @@ public final class OpenApiViewConfig {
     private static final String SWAGGER_UI = "swagger-ui";
     private static final String OPENAPI_EXPLORER = "openapi-explorer";
     private static final String TEMPLATE_OAUTH_2_REDIRECT_HTML = "oauth2-redirect.html";
+    private static final int HASH_LENGTH = 16;
+    private static final String CUSTOM_TEMPLATE_KEY_PREFIX = "custom:";
 
     private String mappingPath;
     private String title;
@@ -199,65 +204,97 @@ public final class OpenApiViewConfig {
      * @throws IOException When the generation fails.
      */
     public void render(Path outputDir, VisitorContext context) throws IOException {
+        var manifest = ViewAssetManifest.load(outputDir, ViewAssetStore.of(context), context);
+        // every renderer writes to its own directory, so renderers can be executed in parallel
+        var tasks = new ArrayList<Callable<Void>>(4);
         if (redocConfig != null) {
-            copyResources(outputDir, context, REDOC, TEMPLATES_REDOC, redocConfig, redocConfig.rapiPDFConfig);
+            tasks.add(() -> renderView(outputDir.resolve(REDOC), TEMPLATES_REDOC, redocConfig, redocConfig.rapiPDFConfig, manifest, context));
         }
         if (rapidocConfig != null) {
-            copyResources(outputDir, context, RAPIDOC, TEMPLATES_RAPIDOC, rapidocConfig, rapidocConfig.rapiPDFConfig);
+            tasks.add(() -> renderView(outputDir.resolve(RAPIDOC), TEMPLATES_RAPIDOC, rapidocConfig, rapidocConfig.rapiPDFConfig, manifest, context));
         }
         if (openApiExplorerConfig != null) {
-            Path openapiExplorerDir = outputDir.resolve(OPENAPI_EXPLORER);
-            render(openApiExplorerConfig, openapiExplorerDir, TEMPLATES + SLASH + TEMPLATES_OPENAPI_EXPLORER + SLASH + TEMPLATE_INDEX_HTML, context);
-            copyResources(openApiExplorerConfig, openapiExplorerDir, TEMPLATES_OPENAPI_EXPLORER, openApiExplorerConfig.getResources(), context);
-            if (openApiExplorerConfig.rapiPDFConfig.enabled) {
-                copyResources(openApiExplorerConfig.rapiPDFConfig, openapiExplorerDir, TEMPLATES_RAPIPDF, openApiExplorerConfig.rapiPDFConfig.getResources(), context);
-            }
+            tasks.add(() -> renderView(outputDir.resolve(OPENAPI_EXPLORER), TEMPLATES_OPENAPI_EXPLORER, openApiExplorerConfig, openApiExplorerConfig.rapiPDFConfig, manifest, context));
         }
         if (swaggerUIConfig != null) {
-            Path swaggerUiDir = copyResources(outputDir, context, SWAGGER_UI, TEMPLATES_SWAGGER_UI, swaggerUIConfig, swaggerUIConfig.rapiPDFConfig);
-            if (SwaggerUIConfig.hasOauth2Option(swaggerUIConfig.options)) {
-                render(swaggerUIConfig, swaggerUiDir, TEMPLATES + SLASH + TEMPLATES_SWAGGER_UI + SLASH + TEMPLATE_OAUTH_2_REDIRECT_HTML, context);
-            }
-            copySwaggerUiTheme(swaggerUIConfig, swaggerUiDir, TEMPLATES_SWAGGER_UI, context);
+            tasks.add(() -> renderSwaggerUi(outputDir.resolve(SWAGGER_UI), manifest, context));
+        }
+        var threads = 1;
+        if (tasks.size() > 1 && ConfigUtils.isParallelEnabled(context)) {
+            threads = ParallelUtils.getParallelThreads(context);
+            // load lazy initialized configuration before start parallel tasks
+            ContextUtils.getClassesOutputPath(context);
+            info("Rendering " + tasks.size() + " OpenAPI views in parallel, threads: " + Math.min(threads, tasks.size()), context);
+        }
+        ParallelUtils.invokeAll(tasks, threads);
+        manifest.save(context);
+        if (manifest.getSkippedCount() > 0) {
+            info("Skipped " + manifest.getSkippedCount() + " unchanged OpenAPI View files in " + outputDir, context);
+        }
+    }
+
+    private Void renderView(@NonNull Path dir,
+                            @NonNull String templates,
+                            AbstractViewConfig viewConfig,
+                            AbstractViewConfig rapidPDFConfig,
+                            ViewAssetManifest manifest,
+                            @NonNull VisitorContext context) throws IOException {
+        Map<String, String> hashedNames = copyResources(dir, templates, viewConfig, rapidPDFConfig, manifest, context);
+        render(viewConfig, rapidPDFConfig, dir, TEMPLATES + SLASH + templates + SLASH + TEMPLATE_INDEX_HTML, manifest, hashedNames, context);
+        return null;
+    }
+
+    private Void renderSwaggerUi(@NonNull Path swaggerUiDir, ViewAssetManifest manifest, @NonNull VisitorContext context) throws IOException {
+        Map<String, String> hashedNames = copyResources(swaggerUiDir, TEMPLATES_SWAGGER_UI, swaggerUIConfig, swaggerUIConfig.rapiPDFConfig, manifest, context);
+        copySwaggerUiTheme(swaggerUIConfig, swaggerUiDir, TEMPLATES_SWAGGER_UI, manifest, hashedNames, context);
+        render(swaggerUIConfig, swaggerUIConfig.rapiPDFConfig, swaggerUiDir, TEMPLATES + SLASH + TEMPLATES_SWAGGER_UI + SLASH + TEMPLATE_INDEX_HTML, manifest, hashedNames, context);
+        if (SwaggerUIConfig.hasOauth2Option(swaggerUIConfig.options)) {
+            render(swaggerUIConfig, swaggerUIConfig.rapiPDFConfig, swaggerUiDir, TEMPLATES + SLASH + TEMPLATES_SWAGGER_UI + SLASH + TEMPLATE_OAUTH_2_REDIRECT_HTML, manifest, hashedNames, context);
         }
+        return null;
     }
 
-    private Path copyResources(@NonNull Path outputDir,
-                               @NonNull VisitorContext context,
-                               @NonNull String otherDir,
-                               @NonNull String templates,
-                               AbstractViewConfig viewConfig,
-                               AbstractViewConfig rapidPDFConfig) throws IOException {
-        Path dir = outputDir.resolve(otherDir);
-        render(viewConfig, dir, TEMPLATES + SLASH + templates + SLASH + TEMPLATE_INDEX_HTML, context);
-        copyResources(viewConfig, dir, templates, viewConfig.getResources(), context);
+    /**
+     * Copy resources of the view and RapiPDF.
+     *
+     * @return map of the original resource file names to content-hashed file names
+     */
+    private Map<String, String> copyResources(@NonNull Path dir,
+                                              @NonNull String templates,
+                                              AbstractViewConfig viewConfig,
+                                              AbstractViewConfig rapidPDFConfig,
+                                              ViewAssetManifest manifest,
+                                              @NonNull VisitorContext context) throws IOException {
+        var hashedNames = new HashMap<String, String>();
+        copyResources(viewConfig, dir, templates, viewConfig.getResources(), manifest, hashedNames, context);
         if (rapidPDFConfig.isEnabled()) {
-            copyResources(rapidPDFConfig, dir, TEMPLATES_RAPIPDF, rapidPDFConfig.getResources(), context);
+            copyResources(rapidPDFConfig, dir, TEMPLATES_RAPIPDF, rapidPDFConfig.getResources(), manifest, hashedNames, context);
         }
-        return dir;
+        return hashedNames;
     }
 
-    private void copySwaggerUiTheme(SwaggerUIConfig cfg, Path outputDir, String templatesDir, VisitorContext context) throws IOException {
+    private void copySwaggerUiTheme(SwaggerUIConfig cfg, Path outputDir, String templatesDir, ViewAssetManifest manifest,
+                                    Map<String, String> hashedNames, VisitorContext context) throws IOException {
 
         if (!cfg.copyTheme) {
             return;
         }
 
-        String themeFileName = cfg.theme.getCss() + ".css";
+        String themeFileName = cfg.getThemeFileName();
 
         Path resDir = outputDir.resolve(RESOURCE_DIR);
         if (!Files.exists(resDir)) {
             Files.createDirectories(resDir);
         }
 
-        ClassLoader classLoader = getClass().getClassLoader();
         try {
-            InputStream is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templatesDir + SLASH + THEMES_DIR + SLASH + themeFileName);
-
-            Files.copy(is, Paths.get(resDir.toString(), themeFileName), StandardCopyOption.REPLACE_EXISTING);
-            Path file = resDir.resolve(themeFileName);
+            boolean hashed = cfg.hashedResources && cfg.isDefaultThemeUrl;
+            Path file = copyResource(TEMPLATES + SLASH + templatesDir + SLASH + THEMES_DIR + SLASH + themeFileName, resDir.resolve(themeFileName),
+                hashed, manifest, context);
+            if (hashed) {
+                hashedNames.put(themeFileName, file.getFileName().toString());
+            }
             if (context != null) {
-                info("Writing OpenAPI View Resources to destination: " + file, context);
                 var classesOutputPath = ContextUtils.getClassesOutputPath(context);
                 if (classesOutputPath != null) {
                     // add relative path for the file, so that the micronaut-graal visitor knows about it
@@ -270,27 +307,29 @@ public final class OpenApiViewConfig {
         }
     }
 
-    private void copyResources(AbstractViewConfig cfg, Path outputDir, String templateDir, List<String> resources, VisitorContext context) throws IOException {
+    private void copyResources(AbstractViewConfig cfg, Path outputDir, String templateDir, List<String> resources, ViewAssetManifest manifest,
+                               Map<String, String> hashedNames, VisitorContext context) throws IOException {
         if (!cfg.copyResources) {
             return;
         }
 
-        ClassLoader classLoader = getClass().getClassLoader();
-
         Path outputResDir = outputDir.resolve(RESOURCE_DIR);
         if (!Files.exists(outputResDir)) {
             Files.createDirectories(outputResDir);
         }
 
+        // resources are referenced by the template only with the default js url
+        boolean hashed = cfg.hashedResources && cfg.isDefaultJsUrl;
+
         if (CollectionUtils.isNotEmpty(resources)) {
             for (String resource : resources) {
                 try {
-                    InputStream is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templateDir + SLASH + resource);
-                    Files.copy(is, Paths.get(outputDir.toString(), resource), StandardCopyOption.REPLACE_EXISTING);
-                    Path file = outputResDir.resolve(resource);
+                    Path file = copyResource(TEMPLATES + SLASH + templateDir + SLASH + resource, Paths.get(outputDir.toString(), resource), hashed, manifest, context);
+                    if (hashed) {
+                        hashedNames.put(resource.substring(resource.lastIndexOf(SLASH) + 1), file.getFileName().toString());
+                    }
 
                     if (context != null) {
-                        info("Writing OpenAPI View Resources to destination: " + file, context);
                         var classesOutputPath = ContextUtils.getClassesOutputPath(context);
                         if (classesOutputPath != null) {
                             // add relative path for the file, so that the micronaut-graal visitor knows about it
@@ -305,6 +344,81 @@ public final class OpenApiViewConfig {
         }
     }
 
+    /**
+     * File name with the first 16 hex chars of SHA-256 digest of the content before the extension,
+     * for example {@code redoc.standalone.0123456789abcdef.js}.
+     */
+    static String hashedFileName(String fileName, byte[] content) {
+        return hashedFileName(fileName, sha256Hex(content));
+    }
+
+    /**
+     * File name with the first 16 hex chars of SHA-256 digest of the content before the extension.
+     *
+     * @param fileName original file name
+     * @param sha256 hex SHA-256 digest of the content
+     *
+     * @return content-hashed file name
+     */
+    static String hashedFileName(String fileName, String sha256) {
+        String hash = sha256.substring(0, HASH_LENGTH);
+        int extIndex = fileName.lastIndexOf('.');
+        if (extIndex <= 0) {
+            return fileName + '.' + hash;
+        }
+        return fileName.substring(0, extIndex) + '.' + hash + fileName.substring(extIndex);
+    }
+
+    /**
+     * Copy classpath resource to the views directory, if it was changed since the previous compilation,
+     * with its precompressed variants. Gzip variants of content-hashed resources are always written.
+     * Resource is not read at all, if its source fingerprint is the same as in the previous compilation
+     * and the copied file was not changed.
+     *
+     * @param resourceName classpath resource name
+     * @param target target file with the original resource file name
+     * @param hashed write resource with the content-hashed file name
+     * @param manifest views manifest
+     * @param context visitor context
+     *
+     * @return copied file
+     */
+    private Path copyResource(String resourceName, Path target, boolean hashed, ViewAssetManifest manifest, VisitorContext context) throws IOException {
+        ClassLoader classLoader = getClass().getClassLoader();
+        String source = ViewAssetManifest.sourceFingerprint(classLoader.getResource(resourceName));
+        Path file = manifest.findUnchangedResource(target, source, hashed);
+        if (file != null) {
+            registerPrecompressed(file, hashed, context);
+            return file;
+        }
+        byte[] content;
+        try (InputStream is = classLoader.getResourceAsStream(resourceName)) {
+            content = is.readAllBytes();
+        }
+        file = hashed ? target.resolveSibling(hashedFileName(target.getFileName().toString(), content)) : target;
+        if (manifest.writeResource(file, content, source)) {
+            writePrecompressed(file, hashed, context);
+            if (context != null) {
+                info("Writing OpenAPI View Resources to destination: " + file, context);
+            }
+        } else {
+            registerPrecompressed(file, hashed, context);
+        }
+        return file;
+    }
+
+    /**
+     * Write view file to the views directory, if it was changed since the previous compilation,
+     * and its precompressed variants.
+     */
+    private static void writeAsset(Path file, byte[] content, ViewAssetManifest manifest, VisitorContext context) throws IOException {
+        if (manifest.write(file, content)) {
+            writePrecompressed(file, context);
+        } else {
+            registerPrecompressed(file, context);
+        }
+    }
+
     private String readTemplateFromClasspath(String templateName) throws IOException {
         ClassLoader classLoader = getClass().getClassLoader();
         try (var in = classLoader.getResourceAsStream(templateName);
@@ -360,18 +474,26 @@ public final class OpenApiViewConfig {
         }
     }
 
-    private void render(AbstractViewConfig cfg, Path outputDir, String templateName, @Nullable VisitorContext context) throws IOException {
+    private void render(AbstractViewConfig cfg, AbstractViewConfig rapidPDFConfig, Path outputDir, String templateName, ViewAssetManifest manifest,
+                        Map<String, String> hashedNames, @Nullable VisitorContext context) throws IOException {
 
-        String template;
+        ViewTemplate viewTemplate;
         if (StringUtils.isEmpty(cfg.templatePath)) {
-            template = readTemplateFromClasspath(templateName);
+            viewTemplate = ViewTemplate.get(templateName);
+            if (viewTemplate == null) {
+                viewTemplate = ViewTemplate.of(templateName, readTemplateFromClasspath(templateName));
+            }
         } else {
-            template = readTemplateFromCustomPath(cfg.templatePath, context);
+            viewTemplate = ViewTemplate.of(CUSTOM_TEMPLATE_KEY_PREFIX + cfg.templatePath, readTemplateFromCustomPath(cfg.templatePath, context));
         }
 
-        template = cfg.render(template, context);
-        template = replacePlaceHolder(template, "specURL", getSpecURL(cfg, context), StringUtils.EMPTY_STRING);
-        template = replacePlaceHolder(template, "title", title, StringUtils.EMPTY_STRING);
+        var placeholders = new HashMap<String, String>();
+        cfg.putPlaceholders(placeholders, context);
+        putPlaceholder(placeholders, "specURL", getSpecURL(cfg, context));
+        putPlaceholder(placeholders, "title", title);
+        cfg.putResourceNames(placeholders, hashedNames);
+        rapidPDFConfig.putResourceNames(placeholders, hashedNames);
+        String template = viewTemplate.render(placeholders);
         if (!Files.exists(outputDir)) {
             Files.createDirectories(outputDir);
         }
@@ -383,11 +505,7 @@ public final class OpenApiViewConfig {
             // add relative path for the file, so that the micronaut-graal visitor knows about it
             addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
         }
-        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
-            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
-        ) {
-            writer.write(template);
-        }
+        writeAsset(file, template.getBytes(StandardCharsets.UTF_8), manifest, context);
     }
 
     /**
@@ -462,21 +580,14 @@ public final class OpenApiViewConfig {
     }
 
     /**
-     * Replaces placeholders in the template.
+     * Puts value of the template placeholder.
      *
-     * @param template A template.
-     * @param placeHolder The placeholder to replace.
-     * @param value The value that will replace the placeholder.
-     * @param valuePrefix A prefix.
-     *
-     * @return The updated template.
+     * @param placeholders placeholder values
+     * @param placeHolder The placeholder name.
+     * @param value The value that will replace the placeholder, empty if null.
      */
-    static String replacePlaceHolder(String template, String placeHolder, String value, String valuePrefix) {
-        if (StringUtils.isEmpty(value)) {
-            return template.replace("{{" + placeHolder + "}}", StringUtils.EMPTY_STRING);
-        } else {
-            return template.replace("{{" + placeHolder + "}}", valuePrefix + value);
-        }
+    static void putPlaceholder(Map<String, String> placeholders, String placeHolder, @Nullable String value) {
+        placeholders.put(placeHolder, StringUtils.isEmpty(value) ? StringUtils.EMPTY_STRING : value);
     }
 
     public SwaggerUIConfig getSwaggerUIConfig() {
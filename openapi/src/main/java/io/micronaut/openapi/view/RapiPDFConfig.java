@@ -29,7 +29,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 
-import static io.micronaut.openapi.view.OpenApiViewConfig.replacePlaceHolder;
+import static io.micronaut.openapi.view.OpenApiViewConfig.putPlaceholder;
 import static io.micronaut.openapi.visitor.StringUtil.SLASH;
 
 /**
@@ -45,8 +45,8 @@ final class RapiPDFConfig extends AbstractViewConfig {
         DEFAULT_RAPIPDF_JS_PATH + "rapipdf-min.js"
     );
 
-    private static final String SCRIPT_RAPIPDF = "script(contextPath + \"{{rapipdf.js.url.prefix}}rapipdf-min.js\", head)";
-    private static final String TAG = "<rapi-pdf id='rapi-pdf' {{rapipdf.attributes}}></rapi-pdf>";
+    private static final ViewTemplate SCRIPT_RAPIPDF = ViewTemplate.compile("script(contextPath + \"{{rapipdf.js.url.prefix}}{{rapipdf-min.js}}\", head)");
+    private static final ViewTemplate TAG = ViewTemplate.compile("<rapi-pdf id='rapi-pdf' {{rapipdf.attributes}}></rapi-pdf>");
     private static final String SPEC = "document.getElementById('rapi-pdf').setAttribute('spec-url', contextPath + '{{specURL}}');";
     private static final Map<String, Object> DEFAULT_OPTIONS = new HashMap<>(6);
 
@@ -122,14 +122,14 @@ final class RapiPDFConfig extends AbstractViewConfig {
     }
 
     /**
-     * Substitute placeholders in the template.
+     * Put values of the RapiPDF placeholders. RapiPDF config is shared by all views, which can be
+     * rendered in parallel, and the default style is set temporarily, so the method is synchronized.
      *
-     * @param template A template.
+     * @param placeholders placeholder values
      * @param rendererType The renderer type.
      * @param context Visitor context.
-     * @return The template with placeholders replaced.
      */
-    String render(String template, RendererType rendererType, VisitorContext context) {
+    synchronized void putPlaceholders(Map<String, String> placeholders, RendererType rendererType, VisitorContext context) {
         if (isEnabled()) {
             String style = (String) options.get("style");
             boolean styleUpdated = false;
@@ -144,18 +144,19 @@ final class RapiPDFConfig extends AbstractViewConfig {
                     options.put("style", DEFAULT_RAPIDOC_STYLE);
                 }
             }
-            String script = replacePlaceHolder(SCRIPT_RAPIPDF, "rapipdf.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(rendererType, context) : jsUrl, StringUtils.EMPTY_STRING);
-            String rapipdfTag = replacePlaceHolder(TAG, "rapipdf.attributes", toHtmlAttributes(), StringUtils.EMPTY_STRING);
+            var values = new HashMap<String, String>(2);
+            putPlaceholder(values, "rapipdf.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(rendererType, context) : jsUrl);
+            putPlaceholder(values, "rapipdf.attributes", toHtmlAttributes());
             if (styleUpdated) {
                 options.remove("style");
             }
-            template = replacePlaceHolder(template, "rapipdf.script", script, StringUtils.EMPTY_STRING);
-            template = replacePlaceHolder(template, "rapipdf.specurl", SPEC, StringUtils.EMPTY_STRING);
-            return replacePlaceHolder(template, "rapipdf.tag", rapipdfTag, StringUtils.EMPTY_STRING);
+            placeholders.put("rapipdf.script", SCRIPT_RAPIPDF.render(values));
+            placeholders.put("rapipdf.specurl", SPEC);
+            placeholders.put("rapipdf.tag", TAG.render(values));
         } else {
-            template = replacePlaceHolder(template, "rapipdf.script", StringUtils.EMPTY_STRING, StringUtils.EMPTY_STRING);
-            template = replacePlaceHolder(template, "rapipdf.specurl", StringUtils.EMPTY_STRING, StringUtils.EMPTY_STRING);
-            return replacePlaceHolder(template, "rapipdf.tag", StringUtils.EMPTY_STRING, StringUtils.EMPTY_STRING);
+            placeholders.put("rapipdf.script", StringUtils.EMPTY_STRING);
+            placeholders.put("rapipdf.specurl", StringUtils.EMPTY_STRING);
+            placeholders.put("rapipdf.tag", StringUtils.EMPTY_STRING);
         }
     }
 
@@ -170,7 +171,7 @@ final class RapiPDFConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
+    void putPlaceholders(Map<String, String> placeholders, @Nullable VisitorContext context) {
         throw new IllegalStateException("RapiPDF doesn't support render");
     }
 }
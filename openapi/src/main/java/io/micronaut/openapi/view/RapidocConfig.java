@@ -16,7 +16,6 @@
 package io.micronaut.openapi.view;
 
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.view.OpenApiViewConfig.RendererType;
 import io.micronaut.openapi.visitor.Pair;
@@ -29,6 +28,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 
+import static io.micronaut.openapi.view.OpenApiViewConfig.putPlaceholder;
 import static io.micronaut.openapi.visitor.StringUtil.SLASH;
 
 /**
@@ -403,10 +403,10 @@ final class RapidocConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
-        template = rapiPDFConfig.render(template, RendererType.RAPIDOC, context);
-        template = OpenApiViewConfig.replacePlaceHolder(template, "rapidoc.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.RAPIDOC, context) : jsUrl, StringUtils.EMPTY_STRING);
-        return OpenApiViewConfig.replacePlaceHolder(template, "rapidoc.attributes", toHtmlAttributes(), StringUtils.EMPTY_STRING);
+    void putPlaceholders(Map<String, String> placeholders, @Nullable VisitorContext context) {
+        rapiPDFConfig.putPlaceholders(placeholders, RendererType.RAPIDOC, context);
+        putPlaceholder(placeholders, "rapidoc.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.RAPIDOC, context) : jsUrl);
+        putPlaceholder(placeholders, "rapidoc.attributes", toHtmlAttributes());
     }
 
     @Override
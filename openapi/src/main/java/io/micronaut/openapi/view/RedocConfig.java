@@ -16,7 +16,6 @@
 package io.micronaut.openapi.view;
 
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.view.OpenApiViewConfig.RendererType;
 import io.micronaut.openapi.visitor.Pair;
@@ -28,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import static io.micronaut.openapi.view.OpenApiViewConfig.putPlaceholder;
 import static io.micronaut.openapi.visitor.StringUtil.SLASH;
 
 /**
@@ -151,10 +151,10 @@ final class RedocConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
-        template = rapiPDFConfig.render(template, RendererType.REDOC, context);
-        template = OpenApiViewConfig.replacePlaceHolder(template, "redoc.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.REDOC, context) : jsUrl, StringUtils.EMPTY_STRING);
-        return OpenApiViewConfig.replacePlaceHolder(template, "redoc.attributes", toHtmlAttributes(), StringUtils.EMPTY_STRING);
+    void putPlaceholders(Map<String, String> placeholders, @Nullable VisitorContext context) {
+        rapiPDFConfig.putPlaceholders(placeholders, RendererType.REDOC, context);
+        putPlaceholder(placeholders, "redoc.js.url.prefix", isDefaultJsUrl ? getFinalUrlPrefix(RendererType.REDOC, context) : jsUrl);
+        putPlaceholder(placeholders, "redoc.attributes", toHtmlAttributes());
     }
 
     @Override
@@ -33,7 +33,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
-import static io.micronaut.openapi.view.OpenApiViewConfig.replacePlaceHolder;
+import static io.micronaut.openapi.view.OpenApiViewConfig.putPlaceholder;
 import static io.micronaut.openapi.visitor.StringUtil.DOT;
 import static io.micronaut.openapi.visitor.StringUtil.SLASH;
 
@@ -262,24 +262,41 @@ final class SwaggerUIConfig extends AbstractViewConfig {
     }
 
     @Override
-    public String render(String template, @Nullable VisitorContext context) {
+    void putPlaceholders(Map<String, String> placeholders, @Nullable VisitorContext context) {
 
         String finalUrlPrefix = getFinalUrlPrefix(RendererType.SWAGGER_UI, context);
 
-        template = rapiPDFConfig.render(template, RendererType.SWAGGER_UI, context);
-        template = replacePlaceHolder(template, PREFIX_SWAGGER_UI + ".js.url.prefix", isDefaultJsUrl ? finalUrlPrefix : jsUrl, EMPTY_STRING);
-        template = replacePlaceHolder(template, PREFIX_SWAGGER_UI + ".attributes", toOptions(), EMPTY_STRING);
+        rapiPDFConfig.putPlaceholders(placeholders, RendererType.SWAGGER_UI, context);
+        putPlaceholder(placeholders, PREFIX_SWAGGER_UI + ".js.url.prefix", isDefaultJsUrl ? finalUrlPrefix : jsUrl);
+        putPlaceholder(placeholders, PREFIX_SWAGGER_UI + ".attributes", toOptions());
 
         if (theme != null && Theme.CLASSIC != theme) {
-            var themeCssLink = isDefaultThemeUrl ? finalUrlPrefix + theme.getCss() + ".css" : themeUrl;
-            template = template.replace("{{" + PREFIX_SWAGGER_UI + ".theme}}", "link(contextPath + \"" + themeCssLink + "\", head, \"text/css\", \"stylesheet\")");
+            var themeCssLink = isDefaultThemeUrl ? finalUrlPrefix + "{{" + getThemeFileName() + "}}" : themeUrl;
+            placeholders.put(PREFIX_SWAGGER_UI + ".theme", "link(contextPath + \"" + themeCssLink + "\", head, \"text/css\", \"stylesheet\")");
         } else {
-            template = template.replace("{{" + PREFIX_SWAGGER_UI + ".theme}}", EMPTY_STRING);
+            placeholders.put(PREFIX_SWAGGER_UI + ".theme", EMPTY_STRING);
         }
-        template = template.replace("{{" + PREFIX_SWAGGER_UI + DOT + OPTION_OAUTH2 + "}}", hasOauth2Option(options) ? toOauth2Options() : EMPTY_STRING);
-        template = template.replace("{{" + PREFIX_SWAGGER_UI + DOT + OPTION_PRIMARY_NAME + "}}", StringUtils.isNotEmpty(primaryName) ? getPrimaryName(context) : EMPTY_STRING);
-        template = template.replace("{{" + PREFIX_SWAGGER_UI + DOT + OPTION_URLS + "}}", getUrlStr(context));
-        return template;
+        placeholders.put(PREFIX_SWAGGER_UI + DOT + OPTION_OAUTH2, hasOauth2Option(options) ? toOauth2Options() : EMPTY_STRING);
+        placeholders.put(PREFIX_SWAGGER_UI + DOT + OPTION_PRIMARY_NAME, StringUtils.isNotEmpty(primaryName) ? getPrimaryName(context) : EMPTY_STRING);
+        placeholders.put(PREFIX_SWAGGER_UI + DOT + OPTION_URLS, getUrlStr(context));
+    }
+
+    @Override
+    void putResourceNames(Map<String, String> placeholders, Map<String, String> hashedNames) {
+        super.putResourceNames(placeholders, hashedNames);
+        if (theme != null && Theme.CLASSIC != theme) {
+            String themeFileName = getThemeFileName();
+            placeholders.put(themeFileName, hashedNames.getOrDefault(themeFileName, themeFileName));
+        }
+    }
+
+    /**
+     * Returns the file name of the theme css.
+     *
+     * @return theme file name
+     */
+    String getThemeFileName() {
+        return theme.getCss() + ".css";
     }
 
     @NonNull
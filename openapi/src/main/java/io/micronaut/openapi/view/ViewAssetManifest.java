@@ -0,0 +1,334 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.view;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiUtils;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.FileUtils.EXT_ETAG;
+import static io.micronaut.openapi.visitor.FileUtils.EXT_GZ;
+import static io.micronaut.openapi.visitor.FileUtils.sha256Hex;
+import static io.micronaut.openapi.visitor.StringUtil.SLASH;
+
+/**
+ * Manifest of the files written to the views directory. For every file it keeps the size
+ * and SHA-256 digest of the content and the modification time of the written file. For resources
+ * it also keeps the fingerprint of the classpath source, so unchanged resources are not even read.
+ * <p>
+ * If the content is the same as in the previous compilation and the file in the views directory
+ * was not changed since then, the file is not written again. Files of the previous compilation, which
+ * were not written in this compilation (for example, content-hashed resources of an older version),
+ * are deleted with their precompressed variants.
+ * <p>
+ * Files can be written from parallel view rendering tasks. Resources are linked from the shared
+ * {@link ViewAssetStore}, if it's enabled.
+ *
+ * @since 6.14.0
+ */
+final class ViewAssetManifest {
+
+    static final String MANIFEST_FILE_NAME = ".openapi-views-manifest.json";
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String PROP_FORMAT = "format";
+    private static final String PROP_FILES = "files";
+    private static final String PROP_SIZE = "size";
+    private static final String PROP_SHA256 = "sha256";
+    private static final String PROP_MODIFIED = "modified";
+    private static final String PROP_SOURCE = "source";
+    private static final String SOURCE_SEPARATOR = "|";
+
+    private final Path rootDir;
+    @Nullable
+    private final ViewAssetStore assetStore;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentSkipListMap<>();
+    private final AtomicInteger skippedCount = new AtomicInteger();
+
+    private ViewAssetManifest(Path rootDir, @Nullable ViewAssetStore assetStore, Map<String, Entry> previous) {
+        this.rootDir = rootDir;
+        this.assetStore = assetStore;
+        this.previous = previous;
+    }
+
+    /**
+     * Load manifest of the views directory.
+     *
+     * @param rootDir views directory
+     * @param context visitor context
+     *
+     * @return manifest, empty if there is no manifest or it can't be read
+     */
+    static ViewAssetManifest load(Path rootDir, VisitorContext context) {
+        return load(rootDir, null, context);
+    }
+
+    /**
+     * Load manifest of the views directory.
+     *
+     * @param rootDir views directory
+     * @param assetStore shared asset store for resources or null
+     * @param context visitor context
+     *
+     * @return manifest, empty if there is no manifest or it can't be read
+     */
+    static ViewAssetManifest load(Path rootDir, @Nullable ViewAssetStore assetStore, VisitorContext context) {
+        var manifestFile = rootDir.resolve(MANIFEST_FILE_NAME);
+        if (!Files.isReadable(manifestFile)) {
+            return new ViewAssetManifest(rootDir, assetStore, Collections.emptyMap());
+        }
+        try {
+            var root = OpenApiUtils.getJsonMapper().readTree(manifestFile.toFile());
+            if (root.path(PROP_FORMAT).asInt() != FORMAT_VERSION) {
+                return new ViewAssetManifest(rootDir, assetStore, Collections.emptyMap());
+            }
+            var entries = new HashMap<String, Entry>();
+            var it = root.path(PROP_FILES).fields();
+            while (it.hasNext()) {
+                var field = it.next();
+                JsonNode node = field.getValue();
+                String source = node.hasNonNull(PROP_SOURCE) ? node.get(PROP_SOURCE).asText() : null;
+                entries.put(field.getKey(), new Entry(node.path(PROP_SIZE).asLong(), node.path(PROP_SHA256).asText(), node.path(PROP_MODIFIED).asLong(), source));
+            }
+            return new ViewAssetManifest(rootDir, assetStore, entries);
+        } catch (IOException e) {
+            warn("Can't read views manifest " + manifestFile + ": " + e.getMessage(), context);
+            return new ViewAssetManifest(rootDir, assetStore, Collections.emptyMap());
+        }
+    }
+
+    /**
+     * Write file, if the content or the file was changed since the previous compilation.
+     *
+     * @param file target file in the views directory
+     * @param content file content
+     *
+     * @return true if the file was written, false if it's up to date
+     *
+     * @throws IOException if writing failed
+     */
+    boolean write(Path file, byte[] content) throws IOException {
+        return write(file, content, false, null);
+    }
+
+    /**
+     * Write resource file, if the content or the file was changed since the previous compilation.
+     * If the asset store is enabled, file is linked from the store.
+     *
+     * @param file target file in the views directory
+     * @param content file content
+     * @param source fingerprint of the classpath resource or null
+     *
+     * @return true if the file was written, false if it's up to date
+     *
+     * @throws IOException if writing failed
+     */
+    boolean writeResource(Path file, byte[] content, @Nullable String source) throws IOException {
+        return write(file, content, true, source);
+    }
+
+    /**
+     * Find resource file, which was written from the classpath resource with the same source fingerprint
+     * in the previous compilation and was not changed since then. Found file is kept in the manifest.
+     *
+     * @param target target file with the original resource file name
+     * @param source fingerprint of the classpath resource or null
+     * @param hashed is the resource file name content-hashed
+     *
+     * @return unchanged resource file or null
+     *
+     * @throws IOException if file attributes can't be read
+     */
+    @Nullable
+    Path findUnchangedResource(Path target, @Nullable String source, boolean hashed) throws IOException {
+        if (source == null) {
+            return null;
+        }
+        var targetKey = key(target);
+        for (var previousEntry : previous.entrySet()) {
+            var key = previousEntry.getKey();
+            var entry = previousEntry.getValue();
+            if (!source.equals(entry.source())) {
+                continue;
+            }
+            // content-hashed name is unknown before reading, so it's computed from the previous digest
+            var expectedKey = hashed ? key(target.resolveSibling(OpenApiViewConfig.hashedFileName(target.getFileName().toString(), entry.sha256()))) : targetKey;
+            Path file = rootDir.resolve(key);
+            if (key.equals(expectedKey) && isUnchanged(file, entry)) {
+                current.put(key, entry);
+                skippedCount.incrementAndGet();
+                return file;
+            }
+        }
+        return null;
+    }
+
+    private boolean write(Path file, byte[] content, boolean resource, @Nullable String source) throws IOException {
+        var key = key(file);
+        var sha256 = sha256Hex(content);
+        var entry = previous.get(key);
+        if (entry != null
+            && entry.size() == content.length
+            && entry.sha256().equals(sha256)
+            && isUnchanged(file, entry)) {
+            current.put(key, new Entry(entry.size(), entry.sha256(), entry.modified(), source));
+            skippedCount.incrementAndGet();
+            return false;
+        }
+        Files.createDirectories(file.getParent());
+        // file can be a hard link to the asset store, so it's replaced instead of writing in place
+        Files.deleteIfExists(file);
+        if (resource && assetStore != null) {
+            assetStore.link(file, content, sha256);
+        } else {
+            Files.write(file, content);
+        }
+        current.put(key, new Entry(content.length, sha256, Files.getLastModifiedTime(file).toMillis(), source));
+        return true;
+    }
+
+    private static boolean isUnchanged(Path file, Entry entry) throws IOException {
+        return Files.isRegularFile(file)
+            && Files.size(file) == entry.size()
+            && Files.getLastModifiedTime(file).toMillis() == entry.modified();
+    }
+
+    /**
+     * @return number of files, which were not written because they are up to date
+     */
+    int getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    /**
+     * Save manifest with the files written in this compilation.
+     *
+     * @param context visitor context
+     */
+    void save(VisitorContext context) {
+        if (current.equals(previous)) {
+            return;
+        }
+        deleteStaleFiles(context);
+        var mapper = OpenApiUtils.getJsonMapper();
+        var root = mapper.createObjectNode();
+        root.put(PROP_FORMAT, FORMAT_VERSION);
+        var filesNode = root.putObject(PROP_FILES);
+        for (var entry : current.entrySet()) {
+            var entryNode = filesNode.putObject(entry.getKey())
+                .put(PROP_SIZE, entry.getValue().size())
+                .put(PROP_SHA256, entry.getValue().sha256())
+                .put(PROP_MODIFIED, entry.getValue().modified());
+            if (entry.getValue().source() != null) {
+                entryNode.put(PROP_SOURCE, entry.getValue().source());
+            }
+        }
+        var manifestFile = rootDir.resolve(MANIFEST_FILE_NAME);
+        try {
+            Files.createDirectories(rootDir);
+            mapper.writeValue(manifestFile.toFile(), root);
+        } catch (IOException e) {
+            warn("Can't write views manifest " + manifestFile + ": " + e.getMessage(), context);
+        }
+    }
+
+    private void deleteStaleFiles(VisitorContext context) {
+        for (var key : previous.keySet()) {
+            if (current.containsKey(key)) {
+                continue;
+            }
+            var file = rootDir.resolve(key);
+            try {
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(file.resolveSibling(file.getFileName() + EXT_GZ));
+                Files.deleteIfExists(file.resolveSibling(file.getFileName() + EXT_ETAG));
+            } catch (IOException e) {
+                warn("Can't delete stale view file " + file + ": " + e.getMessage(), context);
+            }
+        }
+    }
+
+    private String key(Path file) {
+        return rootDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), SLASH);
+    }
+
+    /**
+     * Fingerprint of the classpath resource, which is computed without reading the resource content:
+     * resource URL with the size and CRC of the jar entry or with the size and modification time
+     * of the file, and the library version.
+     *
+     * @param url resource URL
+     *
+     * @return source fingerprint or null, if it can't be computed
+     */
+    @Nullable
+    static String sourceFingerprint(@Nullable URL url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            String attributes;
+            if (url.openConnection() instanceof JarURLConnection jarConnection) {
+                var jarEntry = jarConnection.getJarEntry();
+                if (jarEntry == null || jarEntry.getSize() < 0 || jarEntry.getCrc() < 0) {
+                    return null;
+                }
+                attributes = jarEntry.getSize() + SOURCE_SEPARATOR + jarEntry.getCrc();
+            } else if ("file".equals(url.getProtocol())) {
+                Path file = Paths.get(url.toURI());
+                attributes = Files.size(file) + SOURCE_SEPARATOR + Files.getLastModifiedTime(file).toMillis();
+            } else {
+                return null;
+            }
+            return url + SOURCE_SEPARATOR + attributes + SOURCE_SEPARATOR + ViewAssetStore.libraryVersion();
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Manifest entry.
+     *
+     * @param size content size
+     * @param sha256 hex SHA-256 digest of the content
+     * @param modified last modification time of the written file in milliseconds
+     * @param source fingerprint of the classpath resource or null
+     */
+    private record Entry(
+        long size,
+        String sha256,
+        long modified,
+        @Nullable String source
+    ) {
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.view;
+
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.visitor.FileUtils;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
+import static io.micronaut.openapi.visitor.ConfigUtils.isViewsAssetStoreEnabled;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_DIR;
+
+/**
+ * Shared store of the view resources. Every resource is stored once in the directory
+ * {@code <store>/<micronaut-openapi version>/<sha256>} and hard-linked to the views directories
+ * of all modules. If hard link can't be created (for example, the store and the views directory
+ * are on different file systems), resource is copied.
+ * <p>
+ * Files in the store are written to the temporary file and moved atomically, so the store can be
+ * shared by parallel builds. Digest of an existing file is verified before it's linked, and a corrupted
+ * file is replaced.
+ *
+ * @since 6.14.0
+ */
+final class ViewAssetStore {
+
+    private static final String DEFAULT_STORE_DIR = "caches/micronaut-openapi/views";
+    private static final String DEV_VERSION = "dev";
+
+    private final Path dir;
+    @Nullable
+    private final VisitorContext context;
+
+    private ViewAssetStore(Path dir, @Nullable VisitorContext context) {
+        this.dir = dir;
+        this.context = context;
+    }
+
+    /**
+     * Create asset store, if it's enabled.
+     *
+     * @param context visitor context
+     *
+     * @return asset store or null, if it's disabled
+     */
+    @Nullable
+    static ViewAssetStore of(@Nullable VisitorContext context) {
+        if (!isViewsAssetStoreEnabled(context)) {
+            return null;
+        }
+        Path storeDir;
+        var storeDirProp = getConfigProperty(MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_DIR, context);
+        if (StringUtils.isNotEmpty(storeDirProp)) {
+            storeDir = FileUtils.resolve(context, Paths.get(storeDirProp));
+        } else {
+            storeDir = gradleUserHome().resolve(DEFAULT_STORE_DIR);
+        }
+        return new ViewAssetStore(storeDir.resolve(libraryVersion()), context);
+    }
+
+    /**
+     * @return version of micronaut-openapi library, which contains view resources
+     */
+    static String libraryVersion() {
+        var version = ViewAssetStore.class.getPackage().getImplementationVersion();
+        return StringUtils.isNotEmpty(version) ? version : DEV_VERSION;
+    }
+
+    /**
+     * Link file from the store to the target file. Content is put to the store, if it's not there yet.
+     *
+     * @param target target file in the views directory
+     * @param content file content
+     * @param sha256 hex SHA-256 digest of the content
+     *
+     * @throws IOException if file can't be linked or copied
+     */
+    void link(Path target, byte[] content, String sha256) throws IOException {
+        Path stored = dir.resolve(sha256);
+        try {
+            store(stored, content, sha256);
+        } catch (IOException e) {
+            warn("Can't write view resource to the asset store " + stored + ": " + e.getMessage(), context);
+            Files.write(target, content);
+            return;
+        }
+        try {
+            Files.createLink(target, stored);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(stored, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void store(Path stored, byte[] content, String sha256) throws IOException {
+        if (isStored(stored, content, sha256)) {
+            return;
+        }
+        Files.createDirectories(stored.getParent());
+        Path tmp = Files.createTempFile(stored.getParent(), stored.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, content);
+            try {
+                Files.move(tmp, stored, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // written by the parallel build or corrupted
+                if (!isStored(stored, content, sha256)) {
+                    Files.move(tmp, stored, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static boolean isStored(Path stored, byte[] content, String sha256) throws IOException {
+        return Files.isRegularFile(stored)
+            && Files.size(stored) == content.length
+            && sha256.equals(FileUtils.sha256Hex(Files.readAllBytes(stored)));
+    }
+
+    private static Path gradleUserHome() {
+        var gradleUserHome = System.getenv("GRADLE_USER_HOME");
+        if (StringUtils.isNotEmpty(gradleUserHome)) {
+            return Paths.get(gradleUserHome);
+        }
+        return Paths.get(System.getProperty("user.home"), ".gradle");
+    }
+}
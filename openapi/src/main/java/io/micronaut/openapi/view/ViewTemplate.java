@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.view;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * View template compiled to the list of literal parts and {@code {{name}}} placeholders.
+ * Template is tokenized once and rendered in one pass into a single buffer.
+ * <p>
+ * Placeholders without value are written as is. Placeholders inside the values are resolved
+ * once more, for example, {@code {{specURL}}} inside RapiPDF script.
+ *
+ * @since 6.14.0
+ */
+final class ViewTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private static final Map<String, ViewTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String source;
+    /**
+     * Literal parts, {@code literals.length == names.length + 1}.
+     */
+    private final String[] literals;
+    private final String[] names;
+    private final int literalsLength;
+
+    private ViewTemplate(String source, String[] literals, String[] names) {
+        this.source = source;
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        literalsLength = length;
+    }
+
+    /**
+     * Return compiled template from the cache.
+     *
+     * @param key template key: classpath resource name or custom template path
+     *
+     * @return cached template or null
+     */
+    @Nullable
+    static ViewTemplate get(String key) {
+        return CACHE.get(key);
+    }
+
+    /**
+     * Return compiled template from the cache or compile and cache it, if there is no cached template
+     * or template source was changed.
+     *
+     * @param key template key: classpath resource name or custom template path
+     * @param source template source
+     *
+     * @return compiled template
+     */
+    static ViewTemplate of(String key, String source) {
+        ViewTemplate template = CACHE.get(key);
+        if (template == null || !template.source.equals(source)) {
+            template = compile(source);
+            CACHE.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Compile template.
+     *
+     * @param source template source
+     *
+     * @return compiled template
+     */
+    static ViewTemplate compile(String source) {
+        var literals = new ArrayList<String>();
+        var names = new ArrayList<String>();
+        int pos = 0;
+        int literalStart = 0;
+        while (pos < source.length()) {
+            int close = source.indexOf(CLOSE, pos);
+            if (close < 0) {
+                break;
+            }
+            // the nearest opening before closing, same as the first match of "{{name}}"
+            int open = source.lastIndexOf(OPEN, close - OPEN.length());
+            if (open < pos || !isName(source, open + OPEN.length(), close)) {
+                pos = close + 1;
+                continue;
+            }
+            literals.add(source.substring(literalStart, open));
+            names.add(source.substring(open + OPEN.length(), close));
+            pos = close + CLOSE.length();
+            literalStart = pos;
+        }
+        literals.add(source.substring(literalStart));
+        return new ViewTemplate(source, literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    /**
+     * Render template.
+     *
+     * @param values placeholder values
+     *
+     * @return rendered template
+     */
+    String render(Map<String, String> values) {
+        var sb = new StringBuilder(literalsLength + names.length * 32);
+        render(values, sb, true);
+        return sb.toString();
+    }
+
+    private void render(Map<String, String> values, StringBuilder sb, boolean resolveValues) {
+        for (int i = 0; i < names.length; i++) {
+            sb.append(literals[i]);
+            String value = values.get(names[i]);
+            if (value == null) {
+                sb.append(OPEN).append(names[i]).append(CLOSE);
+            } else if (resolveValues && value.contains(OPEN)) {
+                compile(value).render(values, sb, false);
+            } else {
+                sb.append(value);
+            }
+        }
+        sb.append(literals[names.length]);
+    }
+
+    private static boolean isName(String source, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char ch = source.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '.' && ch != '-' && ch != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -199,6 +199,10 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
 
     protected List<Tag> classTags;
     protected ExternalDocumentation classExternalDocs;
+    /**
+     * Incremental generation fragment of the current class.
+     */
+    private FragmentCache.Fragment classFragment;
 
     /**
      * Executed when a class is encountered that matches the generic class.
@@ -207,6 +211,16 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
      * @param context The visitor context
      */
     public void visitClass(ClassElement element, VisitorContext context) {
+        var measurement = ProcessingMetrics.start(ProcessingMetrics.PHASE_VISIT_CLASS, context);
+        try {
+            doVisitClass(element, context);
+        } finally {
+            ProcessingMetrics.stop(measurement);
+        }
+    }
+
+    private void doVisitClass(ClassElement element, VisitorContext context) {
+        classFragment = null;
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
             return;
         }
@@ -214,6 +228,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             return;
         }
         incrementVisitedElements(context);
+        classFragment = FragmentCache.begin(element, context);
         processSecuritySchemes(element, context);
         processTags(element, context);
         processExternalDocs(element, context);
@@ -400,9 +415,22 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
      * @param context The visitor context
      */
     public void visitMethod(MethodElement element, VisitorContext context) {
+        var measurement = ProcessingMetrics.start(ProcessingMetrics.PHASE_VISIT_METHOD, context);
+        try {
+            doVisitMethod(element, context);
+        } finally {
+            ProcessingMetrics.stop(measurement);
+        }
+    }
+
+    private void doVisitMethod(MethodElement element, VisitorContext context) {
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
             return;
         }
+        // class is not changed, operations already restored from incremental generation cache
+        if (classFragment != null && classFragment.isRestored()) {
+            return;
+        }
         if (ignore(element, context)) {
             return;
         }
@@ -441,6 +469,9 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
         var webhookPair = readWebhook(webhookValue, httpMethod, context);
         if (webhookPair != null) {
             resolveWebhooks(openApi).put(webhookPair.getFirst(), webhookPair.getSecond());
+            if (classFragment != null) {
+                classFragment.addWebhook(webhookPair.getFirst(), webhookPair.getSecond());
+            }
         }
 
         for (Map.Entry<String, List<PathItem>> pathItemEntry : pathItemsMap.entrySet()) {
@@ -496,6 +527,9 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
                 }
 
                 setOperationOnPathItem(operationEntry.getKey(), httpMethod, swaggerOperation);
+                if (classFragment != null) {
+                    classFragment.addOperation(pathItemEntry.getKey(), httpMethod, swaggerOperation);
+                }
 
                 var queryParams = new HashMap<String, UriMatchVariable>();
                 var pathVariables = new HashMap<String, UriMatchVariable>();
@@ -1985,7 +2019,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             Utils.setEndpointInfos(endpointInfosMap);
         }
         List<EndpointInfo> endpointInfos = endpointInfosMap.computeIfAbsent(methodKey, (k) -> new ArrayList<>());
-        endpointInfos.add(new EndpointInfo(
+        var endpointInfo = new EndpointInfo(
             url,
             httpMethod,
             methodEl,
@@ -1993,7 +2027,11 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             version,
             groups,
             excludedGroups
-        ));
+        );
+        endpointInfos.add(endpointInfo);
+        if (classFragment != null) {
+            classFragment.addEndpoint(methodKey, endpointInfo);
+        }
     }
 
     private void processGroups(Map<String, EndpointGroupInfo> groups,
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.micronaut.openapi.OpenApiUtils.EXT_SMILE;
+import static io.micronaut.openapi.visitor.ConfigUtils.isIncrementalEnabled;
+import static io.micronaut.openapi.visitor.ContextUtils.info;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.SchemaUtils.copyOpenApi;
+
+/**
+ * Parallel merge of additional OpenAPI files into the generated OpenAPI document.
+ * <p>
+ * Files are parsed in batches by the number of parallel threads, every batch is merged into the document
+ * in the order of file names before the next batch is parsed. Every file is parsed into a whole OpenAPI object,
+ * so the parsed documents of one batch are in memory at the same time.
+ * <p>
+ * If incremental generation is enabled, parsed documents are stored in the incremental cache directory in binary
+ * Smile format with the fingerprints (size and modification time) of the source files. Unchanged files are loaded
+ * from the cache in the next compilation instead of parsing YAML or JSON again.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class AdditionalFilesMerger {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String CACHE_DIR_NAME = "additional-files";
+    private static final String INDEX_FILE_NAME = "index.json";
+
+    private static final String PROP_FORMAT = "format";
+    private static final String PROP_OPENAPI_31 = "openapi31";
+    private static final String PROP_FILES = "files";
+    private static final String PROP_SIZE = "size";
+    private static final String PROP_MODIFIED = "modified";
+
+    private static final AtomicInteger PARSED_COUNT = new AtomicInteger();
+    private static final AtomicInteger CACHED_COUNT = new AtomicInteger();
+
+    private AdditionalFilesMerger() {
+    }
+
+    /**
+     * Cleanup context.
+     */
+    public static void clean() {
+        PARSED_COUNT.set(0);
+        CACHED_COUNT.set(0);
+    }
+
+    public static int getParsedCount() {
+        return PARSED_COUNT.get();
+    }
+
+    public static int getCachedCount() {
+        return CACHED_COUNT.get();
+    }
+
+    /**
+     * Merge additional files into OpenAPI document.
+     *
+     * @param openApi OpenAPI document
+     * @param files YAML and JSON files
+     * @param context visitor context
+     */
+    public static void merge(OpenAPI openApi, List<Path> files, VisitorContext context) {
+        var sortedFiles = new ArrayList<>(files);
+        Collections.sort(sortedFiles);
+
+        Path cacheDir = null;
+        if (isIncrementalEnabled(context)) {
+            cacheDir = FragmentCache.resolveCacheDir(context);
+            if (cacheDir != null) {
+                cacheDir = cacheDir.resolve(CACHE_DIR_NAME);
+            }
+        }
+        Map<String, Fingerprint> cachedFingerprints = loadIndex(cacheDir, context);
+        Map<String, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+        var threads = ParallelUtils.getParallelThreads(context);
+        for (var from = 0; from < sortedFiles.size(); from += threads) {
+            var batch = sortedFiles.subList(from, Math.min(from + threads, sortedFiles.size()));
+            var tasks = new ArrayList<Callable<OpenAPI>>(batch.size());
+            for (var file : batch) {
+                var finalCacheDir = cacheDir;
+                tasks.add(() -> read(file, finalCacheDir, cachedFingerprints, fingerprints, context));
+            }
+            for (var parsedOpenApi : ParallelUtils.invokeAll(tasks, threads)) {
+                copyOpenApi(openApi, parsedOpenApi);
+            }
+        }
+
+        if (cacheDir != null) {
+            saveIndex(cacheDir, cachedFingerprints, fingerprints, context);
+        }
+    }
+
+    @Nullable
+    private static OpenAPI read(Path file, @Nullable Path cacheDir, Map<String, Fingerprint> cachedFingerprints,
+                                Map<String, Fingerprint> fingerprints, VisitorContext context) {
+        var key = file.toAbsolutePath().toString();
+        Fingerprint fingerprint = null;
+        if (cacheDir != null) {
+            try {
+                fingerprint = new Fingerprint(Files.size(file), Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException e) {
+                warn("Unable to read attributes of file " + file.getFileName() + ": " + e.getMessage(), context);
+            }
+        }
+        Path cacheFile = cacheDir != null ? cacheDir.resolve(cacheFileName(key)) : null;
+        if (fingerprint != null && fingerprint.equals(cachedFingerprints.get(key))) {
+            try (InputStream in = Files.newInputStream(cacheFile)) {
+                var openApi = Utils.getSmileMapper().readValue(in, OpenAPI.class);
+                fingerprints.put(key, fingerprint);
+                CACHED_COUNT.incrementAndGet();
+                return openApi;
+            } catch (IOException e) {
+                // cache file is broken, parse source file again
+            }
+        }
+
+        boolean isYaml = FileUtils.isYaml(key.toLowerCase());
+        info("Reading Swagger OpenAPI " + (isYaml ? "YAML" : "JSON") + " file " + file.getFileName(), context);
+        OpenAPI openApi;
+        try {
+            openApi = (isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper()).readValue(file.toFile(), OpenAPI.class);
+        } catch (IOException e) {
+            warn("Unable to read file " + file.getFileName() + ": " + e.getMessage(), context);
+            return null;
+        }
+        PARSED_COUNT.incrementAndGet();
+
+        if (fingerprint != null) {
+            try {
+                Files.createDirectories(cacheDir);
+                try (OutputStream out = Files.newOutputStream(cacheFile)) {
+                    Utils.getSmileMapper().writeValue(out, openApi);
+                }
+                fingerprints.put(key, fingerprint);
+            } catch (IOException e) {
+                warn("Can't write cache of file " + file.getFileName() + ": " + e.getMessage(), context);
+            }
+        }
+        return openApi;
+    }
+
+    private static Map<String, Fingerprint> loadIndex(@Nullable Path cacheDir, VisitorContext context) {
+        if (cacheDir == null) {
+            return Collections.emptyMap();
+        }
+        var indexFile = cacheDir.resolve(INDEX_FILE_NAME);
+        if (!Files.isReadable(indexFile)) {
+            return Collections.emptyMap();
+        }
+        try {
+            var root = Utils.getJsonMapper().readTree(indexFile.toFile());
+            if (root.path(PROP_FORMAT).asInt() != FORMAT_VERSION || root.path(PROP_OPENAPI_31).asBoolean() != Utils.isOpenapi31()) {
+                return Collections.emptyMap();
+            }
+            var result = new HashMap<String, Fingerprint>();
+            var it = root.path(PROP_FILES).fields();
+            while (it.hasNext()) {
+                var entry = it.next();
+                JsonNode node = entry.getValue();
+                result.put(entry.getKey(), new Fingerprint(node.path(PROP_SIZE).asLong(), node.path(PROP_MODIFIED).asLong()));
+            }
+            return result;
+        } catch (IOException e) {
+            warn("Can't read cache of additional OpenAPI files " + indexFile + ": " + e.getMessage(), context);
+            return Collections.emptyMap();
+        }
+    }
+
+    private static void saveIndex(Path cacheDir, Map<String, Fingerprint> cachedFingerprints, Map<String, Fingerprint> fingerprints,
+                                  VisitorContext context) {
+        var mapper = Utils.getJsonMapper();
+        var root = mapper.createObjectNode();
+        root.put(PROP_FORMAT, FORMAT_VERSION);
+        root.put(PROP_OPENAPI_31, Utils.isOpenapi31());
+        var filesNode = root.putObject(PROP_FILES);
+        for (var entry : new TreeMap<>(fingerprints).entrySet()) {
+            filesNode.putObject(entry.getKey())
+                .put(PROP_SIZE, entry.getValue().size())
+                .put(PROP_MODIFIED, entry.getValue().modified());
+        }
+        try {
+            Files.createDirectories(cacheDir);
+            mapper.writeValue(cacheDir.resolve(INDEX_FILE_NAME).toFile(), root);
+            // remove cache of deleted files
+            for (var key : cachedFingerprints.keySet()) {
+                if (!fingerprints.containsKey(key)) {
+                    Files.deleteIfExists(cacheDir.resolve(cacheFileName(key)));
+                }
+            }
+        } catch (IOException e) {
+            warn("Can't write cache of additional OpenAPI files " + cacheDir + ": " + e.getMessage(), context);
+        }
+    }
+
+    private static String cacheFileName(String key) {
+        return FileUtils.sha256Hex(key.getBytes(StandardCharsets.UTF_8)) + EXT_SMILE;
+    }
+
+    /**
+     * Fingerprint of the additional file.
+     *
+     * @param size file size
+     * @param modified last modification time in milliseconds
+     */
+    private record Fingerprint(
+        long size,
+        long modified
+    ) {
+    }
+}
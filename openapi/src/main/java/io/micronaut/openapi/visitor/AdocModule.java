@@ -20,6 +20,7 @@ import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.adoc.OpenApiToAdocConverter;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 
+import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -60,30 +61,56 @@ public final class AdocModule {
     public static void convert(OpenApiInfo openApiInfo, Map<String, String> props, VisitorContext context) {
 
         try {
-            var writer = new StringWriter();
-            OpenApiToAdocConverter.convert(openApiInfo.getOpenApi(), props, writer);
-
-            var adoc = writer.toString();
-
-            var outputPath = getOutputPath(openApiInfo, props, context);
-            info("Writing AsciiDoc OpenAPI file to destination: " + outputPath, context);
-            var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-            if (classesOutputPath != null) {
-                // add relative paths for the specPath, and its parent META-INF/swagger
-                // so that micronaut-graal visitor knows about them
-                addGeneratedResource(classesOutputPath.relativize(outputPath).toString(), context);
-            }
-
-            if (Files.exists(outputPath)) {
-                Files.writeString(outputPath, adoc, StandardOpenOption.APPEND);
-            } else {
-                Files.writeString(outputPath, adoc);
-            }
+            write(openApiInfo, props, render(openApiInfo, props), context);
         } catch (Exception e) {
             warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e), context);
         }
     }
 
+    /**
+     * Convert openAPI object to adoc format.
+     *
+     * @param openApiInfo openApiInfo object
+     * @param props openapi-adoc properties
+     *
+     * @return openAPI object in adoc format
+     *
+     * @throws Exception if conversion failed
+     */
+    public static String render(OpenApiInfo openApiInfo, Map<String, String> props) throws Exception {
+        var writer = new StringWriter();
+        OpenApiToAdocConverter.convert(openApiInfo.getOpenApi(), props, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Save to file openAPI object in adoc format.
+     *
+     * @param openApiInfo openApiInfo object
+     * @param props openapi-adoc properties
+     * @param adoc openAPI object in adoc format
+     * @param context visitor context
+     *
+     * @throws IOException if writing failed
+     */
+    public static void write(OpenApiInfo openApiInfo, Map<String, String> props, String adoc, VisitorContext context) throws IOException {
+
+        var outputPath = getOutputPath(openApiInfo, props, context);
+        info("Writing AsciiDoc OpenAPI file to destination: " + outputPath, context);
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        if (classesOutputPath != null) {
+            // add relative paths for the specPath, and its parent META-INF/swagger
+            // so that micronaut-graal visitor knows about them
+            addGeneratedResource(classesOutputPath.relativize(outputPath).toString(), context);
+        }
+
+        if (Files.exists(outputPath)) {
+            Files.writeString(outputPath, adoc, StandardOpenOption.APPEND);
+        } else {
+            Files.writeString(outputPath, adoc);
+        }
+    }
+
     private static Path getOutputPath(OpenApiInfo openApiInfo, Map<String, String> props, VisitorContext context) {
 
         var fileName = props.get(MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME);
@@ -45,6 +45,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -55,6 +56,7 @@ import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_CU
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_ENVIRONMENT;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_ENVIRONMENT_CREATED;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES;
+import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_EXPANDER;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_LOADED;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_GROUPS;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_JACKSON_JSON_VIEW_ENABLED;
@@ -75,6 +77,7 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.ALL;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_ENVIRONMENT_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_31_JSON_SCHEMA_DIALECT;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES_PARALLEL;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH;
@@ -82,13 +85,21 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENA
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_PREFIX;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_CANONICAL_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_CONFIG_FILE;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ENVIRONMENTS;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_EXPAND_PREFIX;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_FORMATS;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_GENERATOR_EXTENSIONS_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_GROUPS;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_VIEW_DEFAULT_INCLUSION;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_MAPPERS_PRIMING_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLEL_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PRECOMPRESS_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PROJECT_DIR;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SCHEMA;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SCHEMA_DECORATOR_POSTFIX;
@@ -103,8 +114,10 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENA
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SCHEMA_PREFIX;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SECURITY_DEFAULT_SCHEMA_NAME;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SECURITY_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SMILE_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SWAGGER_FILE_GENERATION_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_VERSIONING_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.OPENAPI_CONFIG_FILE;
 import static io.micronaut.openapi.visitor.StringUtil.COMMA;
 import static io.micronaut.openapi.visitor.StringUtil.DOT;
@@ -316,6 +329,73 @@ public final class ConfigUtils {
         return getBooleanProperty(MICRONAUT_OPENAPI_ADOC_ENABLED, true, context);
     }
 
+    public static boolean isParallelEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_PARALLEL_ENABLED, false, context);
+    }
+
+    public static boolean isIncrementalEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_INCREMENTAL_ENABLED, false, context);
+    }
+
+    public static boolean isMetricsEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_METRICS_ENABLED, false, context);
+    }
+
+    public static boolean isPrecompressEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_PRECOMPRESS_ENABLED, false, context);
+    }
+
+    public static boolean isSmileEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_SMILE_ENABLED, false, context);
+    }
+
+    public static boolean isAdditionalFilesParallelEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_ADDITIONAL_FILES_PARALLEL, false, context);
+    }
+
+    public static boolean isMappersPrimingEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_MAPPERS_PRIMING_ENABLED, true, context);
+    }
+
+    public static boolean isCanonicalEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_CANONICAL_ENABLED, false, context);
+    }
+
+    public static boolean isViewsAssetStoreEnabled(VisitorContext context) {
+        return getBooleanProperty(MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_ENABLED, false, context);
+    }
+
+    /**
+     * Get output formats of OpenAPI files. The first format is the main format.
+     *
+     * @param context visitor context
+     *
+     * @return not empty list of output formats
+     */
+    public static List<OpenApiOutputFormat> getOutputFormats(VisitorContext context) {
+        var formats = new ArrayList<OpenApiOutputFormat>();
+        var formatsStr = getConfigProperty(MICRONAUT_OPENAPI_FORMATS, context);
+        if (StringUtils.isNotEmpty(formatsStr)) {
+            for (var formatName : formatsStr.split(",")) {
+                if (StringUtils.isEmpty(formatName.strip())) {
+                    continue;
+                }
+                var format = OpenApiOutputFormat.of(formatName);
+                if (format == null) {
+                    warn("Unknown OpenAPI output format: " + formatName.strip() + ". Supported formats: yaml, json, json-min", context);
+                    continue;
+                }
+                if (!formats.contains(format)) {
+                    formats.add(format);
+                }
+            }
+        }
+        if (formats.isEmpty()) {
+            formats.add(getBooleanProperty(MICRONAUT_OPENAPI_JSON_FORMAT, false, context) ? OpenApiOutputFormat.JSON_COMPACT : OpenApiOutputFormat.YAML);
+        }
+        return formats;
+    }
+
     public static List<Pair<String, String>> getExpandableProperties(VisitorContext context) {
 
         Boolean propertiesLoaded = ContextUtils.get(MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_LOADED, Boolean.class, context);
@@ -365,6 +445,7 @@ public final class ConfigUtils {
             }
         }
 
+        var expanderValues = new LinkedHashMap<String, String>();
         for (Map.Entry<String, String> entry : expandedPropsMap.entrySet()) {
             String key = entry.getKey();
             if (key.startsWith(expandPrefix)) {
@@ -373,15 +454,30 @@ public final class ConfigUtils {
             var prop = Pair.of("\\$\\{" + key + '}', entry.getValue());
             if (!expandableProperties.contains(prop)) {
                 expandableProperties.add(prop);
+                expanderValues.put(key, entry.getValue());
             }
         }
 
         ContextUtils.put(MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES, expandableProperties, context);
+        ContextUtils.put(MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_EXPANDER, new PlaceholderExpander(expanderValues), context);
         ContextUtils.put(MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_LOADED, true, context);
 
         return expandableProperties;
     }
 
+    /**
+     * Get expander of expandable properties. Expander is created once, when properties are loaded.
+     *
+     * @param context visitor context
+     *
+     * @return expander of expandable properties
+     */
+    public static PlaceholderExpander getExpandablePropertiesExpander(VisitorContext context) {
+        getExpandableProperties(context);
+        var expander = ContextUtils.get(MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_EXPANDER, PlaceholderExpander.class, context);
+        return expander != null ? expander : new PlaceholderExpander(Collections.emptyMap());
+    }
+
     public static Map<String, String> getAdocProperties(OpenApiInfo openApiInfo, boolean isSingleGroup, VisitorContext context) {
 
         var adocProperties = new HashMap<String, String>();
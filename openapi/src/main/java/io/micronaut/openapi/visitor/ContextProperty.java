@@ -81,6 +81,10 @@ public interface ContextProperty {
      * Flag that shows that the expandable properties are already loaded into the context.
      */
     String MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_LOADED = "micronaut.internal.expandable.props.loaded";
+    /**
+     * Expander of loaded expandable properties.
+     */
+    String MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_EXPANDER = "micronaut.internal.expandable.props.expander";
     /**
      * Loaded micronaut-security and micronaut-openapi security properties.
      */
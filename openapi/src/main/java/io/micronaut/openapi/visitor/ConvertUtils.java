@@ -35,6 +35,7 @@ import io.micronaut.inject.ast.ElementQuery;
 import io.micronaut.inject.ast.EnumElement;
 import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiStringPool;
 import io.micronaut.openapi.OpenApiUtils;
 import io.micronaut.openapi.swagger.core.util.PrimitiveType;
 import io.swagger.v3.oas.annotations.extensions.Extension;
@@ -78,6 +79,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static io.micronaut.openapi.OpenApiUtils.CONVERT_JSON_MAPPER;
@@ -130,6 +132,8 @@ public final class ConvertUtils {
     public static final TypeReference<Map<CharSequence, Object>> MAP_TYPE = new TypeReference<>() {
     };
 
+    private static final Set<String> POOLED_PROPS = Set.of(PROP_REF, PROP_REF_DOLLAR, PROP_TYPE, PROP_ONE_FORMAT, PROP_MEDIA_TYPE);
+
     private ConvertUtils() {
     }
 
@@ -262,13 +266,24 @@ public final class ConvertUtils {
                     }
                 } else {
                     var parsedJsonValue = parseJsonString(value);
-                    newValues.put(key, parsedJsonValue != null ? parsedJsonValue : value);
+                    newValues.put(key, parsedJsonValue != null ? parsedJsonValue : pooledValue(key, value));
                 }
             }
         }
         return newValues;
     }
 
+    /**
+     * Canonicalize frequently repeated annotation values: references, types, formats and media types.
+     * Strings are kept by the JSON tree as is, so the converted models share pooled instances.
+     */
+    private static Object pooledValue(CharSequence key, Object value) {
+        if (value instanceof String string && POOLED_PROPS.contains(key.toString())) {
+            return OpenApiStringPool.intern(string);
+        }
+        return value;
+    }
+
     public static Map<String, Object> parseJsonString(Object object) {
         if (object instanceof String string) {
             try {
@@ -25,13 +25,22 @@ import io.swagger.v3.oas.models.info.Info;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
+import static io.micronaut.openapi.visitor.ConfigUtils.isPrecompressEnabled;
+import static io.micronaut.openapi.visitor.ContextUtils.addGeneratedResource;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
 import static io.micronaut.openapi.visitor.OpenApiApplicationVisitor.replacePlaceholders;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_FILENAME;
@@ -52,6 +61,8 @@ public final class FileUtils {
     public static final String EXT_YML = ".yml";
     public static final String EXT_YAML = ".yaml";
     public static final String EXT_JSON = ".json";
+    public static final String EXT_GZ = ".gz";
+    public static final String EXT_ETAG = ".etag";
 
     private FileUtils() {
     }
@@ -193,4 +204,147 @@ public final class FileUtils {
         }
         return buf.toString();
     }
+
+    /**
+     * Write precompressed gzip variant and strong ETag of the generated file, if it's enabled
+     * by {@code micronaut.openapi.precompress.enabled} property. Files are written next to the original file
+     * with {@code .gz} and {@code .etag} extensions.
+     *
+     * @param file generated file
+     * @param context visitor context
+     */
+    public static void writePrecompressed(Path file, VisitorContext context) {
+        writePrecompressed(file, false, context);
+    }
+
+    /**
+     * Write precompressed gzip variant and strong ETag of the generated file.
+     *
+     * @param file generated file
+     * @param force write variants even if {@code micronaut.openapi.precompress.enabled} is false
+     * @param context visitor context
+     */
+    public static void writePrecompressed(Path file, boolean force, VisitorContext context) {
+        if (!force && !isPrecompressEnabled(context)) {
+            return;
+        }
+        try {
+            writePrecompressed(file, Files.readAllBytes(file), context);
+        } catch (IOException e) {
+            warn("Can't read file " + file + ": " + e.getMessage(), context);
+        }
+    }
+
+    /**
+     * Write precompressed gzip variant and strong ETag of the generated file, if it's enabled
+     * by {@code micronaut.openapi.precompress.enabled} property.
+     *
+     * @param file generated file
+     * @param content file content
+     * @param context visitor context
+     */
+    public static void writePrecompressed(Path file, String content, VisitorContext context) {
+        if (!isPrecompressEnabled(context)) {
+            return;
+        }
+        writePrecompressed(file, content.getBytes(StandardCharsets.UTF_8), context);
+    }
+
+    /**
+     * Register precompressed variants of the file, which was not changed since the previous compilation.
+     * Missing variants are written again.
+     *
+     * @param file unchanged generated file
+     * @param context visitor context
+     */
+    public static void registerPrecompressed(Path file, VisitorContext context) {
+        registerPrecompressed(file, false, context);
+    }
+
+    /**
+     * Register precompressed variants of the file, which was not changed since the previous compilation.
+     * Missing variants are written again.
+     *
+     * @param file unchanged generated file
+     * @param force register variants even if {@code micronaut.openapi.precompress.enabled} is false
+     * @param context visitor context
+     */
+    public static void registerPrecompressed(Path file, boolean force, VisitorContext context) {
+        if (!force && !isPrecompressEnabled(context)) {
+            return;
+        }
+        Path gzFile = file.resolveSibling(file.getFileName() + EXT_GZ);
+        Path etagFile = file.resolveSibling(file.getFileName() + EXT_ETAG);
+        if (!Files.isRegularFile(gzFile) || !Files.isRegularFile(etagFile)) {
+            writePrecompressed(file, true, context);
+            return;
+        }
+        var classesOutputPath = context != null ? ContextUtils.getClassesOutputPath(context) : null;
+        if (classesOutputPath != null) {
+            addGeneratedResource(classesOutputPath.relativize(gzFile).toString(), context);
+            addGeneratedResource(classesOutputPath.relativize(etagFile).toString(), context);
+        }
+    }
+
+    private static void writePrecompressed(Path file, byte[] content, VisitorContext context) {
+        Path gzFile = file.resolveSibling(file.getFileName() + EXT_GZ);
+        Path etagFile = file.resolveSibling(file.getFileName() + EXT_ETAG);
+        try (OutputStream out = new BestGzipOutputStream(Files.newOutputStream(gzFile))) {
+            out.write(content);
+        } catch (IOException e) {
+            warn("Can't write file " + gzFile + ": " + e.getMessage(), context);
+            return;
+        }
+        try {
+            Files.writeString(etagFile, etag(content));
+        } catch (IOException e) {
+            warn("Can't write file " + etagFile + ": " + e.getMessage(), context);
+            return;
+        }
+        var classesOutputPath = context != null ? ContextUtils.getClassesOutputPath(context) : null;
+        if (classesOutputPath != null) {
+            addGeneratedResource(classesOutputPath.relativize(gzFile).toString(), context);
+            addGeneratedResource(classesOutputPath.relativize(etagFile).toString(), context);
+        }
+    }
+
+    /**
+     * Calculate strong ETag of the content: quoted hex SHA-256 digest.
+     *
+     * @param content content
+     *
+     * @return ETag value
+     */
+    public static String etag(byte[] content) {
+        return '"' + sha256Hex(content) + '"';
+    }
+
+    /**
+     * Calculate hex SHA-256 digest of the content.
+     *
+     * @param content content
+     *
+     * @return hex SHA-256 digest
+     *
+     * @since 6.14.0
+     */
+    public static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * GZIP output stream with the best compression level, files are compressed only once at build time.
+     */
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
 }
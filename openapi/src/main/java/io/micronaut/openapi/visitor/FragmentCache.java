@@ -0,0 +1,916 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micronaut.core.annotation.AnnotationClassValue;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.EnumElement;
+import io.micronaut.inject.ast.FieldElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.visitor.group.EndpointGroupInfo;
+import io.micronaut.openapi.visitor.group.EndpointInfo;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.tags.Tag;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
+import static io.micronaut.openapi.visitor.ConfigUtils.isIncrementalEnabled;
+import static io.micronaut.openapi.visitor.ConfigUtils.readOpenApiConfigFile;
+import static io.micronaut.openapi.visitor.ContextUtils.info;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.ALL;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR;
+import static io.micronaut.openapi.visitor.SchemaUtils.getOperationOnPathItem;
+import static io.micronaut.openapi.visitor.SchemaUtils.setOperationOnPathItem;
+
+/**
+ * Build-local cache of OpenAPI fragments (paths, operations, components) generated from controller and endpoint classes.
+ * <p>
+ * Every fragment is stored with the hash of the class metadata: annotations, javadoc and signatures of the methods,
+ * including the structure (properties and fields) of the types used in these signatures. If the hash is the same in the next compilation,
+ * the fragment is merged into the OpenAPI document instead of processing class methods again.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class FragmentCache {
+
+    private static final int FORMAT_VERSION = 2;
+    private static final String DEFAULT_CACHE_DIR = "openapi-cache";
+    private static final String CACHE_FILE_NAME = "fragments.json";
+
+    private static final String PROP_FORMAT = "format";
+    private static final String PROP_CONFIG = "config";
+    private static final String PROP_CLASSES = "classes";
+    private static final String PROP_HASH = "hash";
+    private static final String PROP_OPERATIONS = "operations";
+    private static final String PROP_PATHS = "paths";
+    private static final String PROP_WEBHOOKS = "webhooks";
+    private static final String PROP_ENDPOINTS = "endpoints";
+    private static final String PROP_TAGS = "tags";
+    private static final String PROP_COMPONENTS = "components";
+    private static final String PROP_SCHEMA_CLASSES = "schemaClasses";
+    private static final String PROP_KEY = "key";
+    private static final String PROP_URL = "url";
+    private static final String PROP_METHOD = "method";
+    private static final String PROP_METHOD_NAME = "methodName";
+    private static final String PROP_PARAMETERS = "parameters";
+    private static final String PROP_OPERATION = "operation";
+    private static final String PROP_VERSION = "version";
+    private static final String PROP_GROUPS = "groups";
+    private static final String PROP_EXCLUDED_GROUPS = "excludedGroups";
+
+    private static final String PROP_REF = "$ref";
+
+    private static final String COMPONENTS_REF_PREFIX = "#/components/";
+    private static final String COMPONENT_SECURITY_SCHEMES = "securitySchemes";
+    private static final String COMPONENT_RESPONSES = "responses";
+    private static final String COMPONENT_PARAMETERS = "parameters";
+    private static final String COMPONENT_EXAMPLES = "examples";
+    private static final String COMPONENT_REQUEST_BODIES = "requestBodies";
+    private static final String COMPONENT_HEADERS = "headers";
+    private static final String COMPONENT_LINKS = "links";
+    private static final String COMPONENT_CALLBACKS = "callbacks";
+
+    private static final String OPENAPI_PROPERTY_PREFIX = "micronaut.openapi.";
+    private static final String JAVA_PACKAGE_PREFIX = "java.";
+
+    /**
+     * Fragments from the cache file of the previous compilation by class names.
+     */
+    private static Map<String, JsonNode> cachedFragments;
+    /**
+     * Fragments of the current compilation by class names.
+     */
+    private static Map<String, Fragment> fragments = new LinkedHashMap<>();
+    /**
+     * Fragment of the class, which is processed now.
+     */
+    @Nullable
+    private static Fragment openFragment;
+    @Nullable
+    private static Path cacheFile;
+    private static String configHash;
+    private static int restoredCount;
+    private static int processedCount;
+
+    private FragmentCache() {
+    }
+
+    /**
+     * Cleanup context.
+     */
+    public static void clean() {
+        cachedFragments = null;
+        fragments = new LinkedHashMap<>();
+        openFragment = null;
+        cacheFile = null;
+        configHash = null;
+        restoredCount = 0;
+        processedCount = 0;
+    }
+
+    public static int getRestoredCount() {
+        return restoredCount;
+    }
+
+    public static int getProcessedCount() {
+        return processedCount;
+    }
+
+    /**
+     * Start processing of the controller or endpoint class. If the class is not changed since
+     * the previous compilation, the cached fragment is merged into the OpenAPI document
+     * and returned fragment is marked as restored: class methods must not be processed.
+     *
+     * @param element class element
+     * @param context visitor context
+     *
+     * @return fragment to record generated objects or null, if incremental generation is disabled
+     */
+    @Nullable
+    public static Fragment begin(ClassElement element, VisitorContext context) {
+        if (!isIncrementalEnabled(context)) {
+            return null;
+        }
+        if (cachedFragments == null) {
+            load(context);
+        }
+        // previous class is processed, so its objects are stored before they are merged with objects of other classes
+        OpenAPI openApi = Utils.resolveOpenApi(context);
+        closeOpenFragment(openApi);
+
+        var className = element.getName();
+        var hash = classHash(element, context);
+
+        var current = fragments.get(className);
+        if (current != null && current.hash.equals(hash)) {
+            // class already processed in the previous round
+            return current.isRestored() ? current : null;
+        }
+
+        var cached = cachedFragments.get(className);
+        if (cached != null && hash.equals(cached.path(PROP_HASH).asText())) {
+            try {
+                restore(element, cached, openApi);
+                var fragment = new Fragment(hash, cached, null);
+                fragments.put(className, fragment);
+                restoredCount++;
+                return fragment;
+            } catch (IOException e) {
+                warn("Can't restore OpenAPI fragment of class " + className + " from cache: " + e.getMessage(), context);
+            }
+        }
+        var fragment = new Fragment(hash, null, componentNames(openApi.getComponents()));
+        fragments.put(className, fragment);
+        openFragment = fragment;
+        processedCount++;
+        return fragment;
+    }
+
+    /**
+     * Store fragments of the current compilation to the cache file. Must be called before post-processing
+     * of the OpenAPI document.
+     *
+     * @param openApi OpenAPI document
+     * @param context visitor context
+     */
+    public static void save(OpenAPI openApi, VisitorContext context) {
+        if (!isIncrementalEnabled(context) || cacheFile == null) {
+            return;
+        }
+        info("Incremental generation: " + restoredCount + " classes restored from cache, " + processedCount + " classes processed", context);
+        closeOpenFragment(openApi);
+
+        ObjectMapper mapper = Utils.getJsonMapper();
+        var root = mapper.createObjectNode();
+        root.put(PROP_FORMAT, FORMAT_VERSION);
+        root.put(PROP_CONFIG, configHash);
+        var classesNode = root.putObject(PROP_CLASSES);
+        for (var entry : fragments.entrySet()) {
+            var fragment = entry.getValue();
+            classesNode.set(entry.getKey(), fragment.cached != null ? fragment.cached : fragment.node);
+        }
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            mapper.writeValue(cacheFile.toFile(), root);
+        } catch (IOException e) {
+            warn("Can't write OpenAPI fragments cache " + cacheFile + ": " + e.getMessage(), context);
+        }
+    }
+
+    private static void closeOpenFragment(OpenAPI openApi) {
+        if (openFragment != null) {
+            openFragment.node = openFragment.toNode(openApi, Utils.getJsonMapper());
+            openFragment = null;
+        }
+    }
+
+    private static void load(VisitorContext context) {
+        cachedFragments = Collections.emptyMap();
+        configHash = configHash(context);
+        cacheFile = resolveCacheFile(context);
+        if (cacheFile == null || !Files.isReadable(cacheFile)) {
+            return;
+        }
+        try {
+            var root = Utils.getJsonMapper().readTree(cacheFile.toFile());
+            if (root.path(PROP_FORMAT).asInt() != FORMAT_VERSION || !configHash.equals(root.path(PROP_CONFIG).asText())) {
+                info("OpenAPI configuration changed, fragments cache will be ignored", context);
+                return;
+            }
+            var result = new HashMap<String, JsonNode>();
+            root.path(PROP_CLASSES).fields().forEachRemaining(entry -> result.put(entry.getKey(), entry.getValue()));
+            cachedFragments = result;
+        } catch (IOException e) {
+            warn("Can't read OpenAPI fragments cache " + cacheFile + ": " + e.getMessage(), context);
+        }
+    }
+
+    @Nullable
+    private static Path resolveCacheFile(VisitorContext context) {
+        var cacheDir = resolveCacheDir(context);
+        return cacheDir != null ? cacheDir.resolve(CACHE_FILE_NAME) : null;
+    }
+
+    /**
+     * Resolve directory of the incremental generation cache.
+     *
+     * @param context visitor context
+     *
+     * @return cache directory or null, if it can't be resolved
+     */
+    @Nullable
+    static Path resolveCacheDir(VisitorContext context) {
+        var cacheDir = getConfigProperty(MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, context);
+        if (StringUtils.isNotEmpty(cacheDir)) {
+            return FileUtils.resolve(context, Paths.get(cacheDir));
+        }
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        if (classesOutputPath == null || classesOutputPath.getParent() == null) {
+            warn("Unable to resolve directory for OpenAPI incremental cache, set " + MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR + " property", context);
+            return null;
+        }
+        return classesOutputPath.getParent().resolve(DEFAULT_CACHE_DIR);
+    }
+
+    private static void restore(ClassElement element, JsonNode node, OpenAPI openApi) throws IOException {
+        ObjectMapper mapper = Utils.getJsonMapper();
+
+        var operations = new ArrayList<Operation>();
+        for (var opNode : node.path(PROP_OPERATIONS)) {
+            operations.add(mapper.treeToValue(opNode, Operation.class));
+        }
+
+        Paths paths = openApi.getPaths();
+        if (paths == null) {
+            paths = new Paths();
+            openApi.setPaths(paths);
+        }
+        for (var pathNode : node.path(PROP_PATHS)) {
+            var httpMethod = HttpMethod.parse(pathNode.path(PROP_METHOD).asText());
+            var operation = operations.get(pathNode.path(PROP_OPERATION).asInt());
+            PathItem pathItem = paths.computeIfAbsent(pathNode.path(PROP_URL).asText(), key -> new PathItem());
+            var existingOperation = getOperationOnPathItem(pathItem, httpMethod);
+            setOperationOnPathItem(pathItem, httpMethod, existingOperation != null ? SchemaUtils.mergeOperations(existingOperation, operation) : operation);
+        }
+
+        var webhooksNode = node.path(PROP_WEBHOOKS);
+        if (!webhooksNode.isEmpty()) {
+            var webhooks = Utils.resolveWebhooks(openApi);
+            var it = webhooksNode.fields();
+            while (it.hasNext()) {
+                var entry = it.next();
+                webhooks.put(entry.getKey(), mapper.treeToValue(entry.getValue(), PathItem.class));
+            }
+        }
+
+        for (var tagNode : node.path(PROP_TAGS)) {
+            var tag = mapper.treeToValue(tagNode, Tag.class);
+            if (openApi.getTags() == null || openApi.getTags().stream().noneMatch(t -> tag.getName().equals(t.getName()))) {
+                openApi.addTagsItem(tag);
+            }
+        }
+
+        var componentsNode = node.path(PROP_COMPONENTS);
+        if (!componentsNode.isEmpty()) {
+            var cached = mapper.treeToValue(componentsNode, Components.class);
+            var components = Utils.resolveComponents(openApi);
+            restoreComponents(cached.getSchemas(), components.getSchemas(), components::addSchemas);
+            restoreComponents(cached.getSecuritySchemes(), components.getSecuritySchemes(), components::addSecuritySchemes);
+            restoreComponents(cached.getResponses(), components.getResponses(), components::addResponses);
+            restoreComponents(cached.getParameters(), components.getParameters(), components::addParameters);
+            restoreComponents(cached.getExamples(), components.getExamples(), components::addExamples);
+            restoreComponents(cached.getRequestBodies(), components.getRequestBodies(), components::addRequestBodies);
+            restoreComponents(cached.getHeaders(), components.getHeaders(), components::addHeaders);
+            restoreComponents(cached.getLinks(), components.getLinks(), components::addLinks);
+            restoreComponents(cached.getCallbacks(), components.getCallbacks(), components::addCallbacks);
+        }
+        var schemaNameToClassNameMap = SchemaDefinitionUtils.getSchemaNameToClassNameMap();
+        node.path(PROP_SCHEMA_CLASSES).fields().forEachRemaining(entry -> schemaNameToClassNameMap.putIfAbsent(entry.getKey(), entry.getValue().asText()));
+
+        var endpointInfosMap = Utils.getEndpointInfos();
+        for (var endpointNode : node.path(PROP_ENDPOINTS)) {
+            if (endpointInfosMap == null) {
+                endpointInfosMap = new HashMap<>();
+                Utils.setEndpointInfos(endpointInfosMap);
+            }
+            var version = endpointNode.hasNonNull(PROP_VERSION) ? endpointNode.get(PROP_VERSION).asText() : null;
+            var groups = new HashMap<String, EndpointGroupInfo>();
+            var groupsIt = endpointNode.path(PROP_GROUPS).fields();
+            while (groupsIt.hasNext()) {
+                var entry = groupsIt.next();
+                var groupInfo = new EndpointGroupInfo(entry.getKey());
+                Map<?, ?> extensions = mapper.treeToValue(entry.getValue(), Map.class);
+                if (extensions != null) {
+                    extensions.forEach((key, value) -> groupInfo.getExtensions().put(key.toString(), value));
+                }
+                groups.put(entry.getKey(), groupInfo);
+            }
+            var excludedGroups = new ArrayList<String>();
+            for (var excludedGroupNode : endpointNode.path(PROP_EXCLUDED_GROUPS)) {
+                excludedGroups.add(excludedGroupNode.asText());
+            }
+            endpointInfosMap.computeIfAbsent(endpointNode.path(PROP_KEY).asText(), k -> new ArrayList<>())
+                .add(new EndpointInfo(
+                    endpointNode.path(PROP_URL).asText(),
+                    HttpMethod.parse(endpointNode.path(PROP_METHOD).asText()),
+                    findMethod(element, endpointNode),
+                    operations.get(endpointNode.path(PROP_OPERATION).asInt()),
+                    version,
+                    groups,
+                    excludedGroups
+                ));
+            if (version != null) {
+                Utils.getAllKnownVersions().add(version);
+            }
+            Utils.getAllKnownGroups().addAll(groups.keySet());
+            Utils.getAllKnownGroups().addAll(excludedGroups);
+        }
+    }
+
+    private static <T> void restoreComponents(@Nullable Map<String, T> cached, @Nullable Map<String, T> existing, BiConsumer<String, T> adder) {
+        if (CollectionUtils.isEmpty(cached)) {
+            return;
+        }
+        for (var entry : cached.entrySet()) {
+            if (existing == null || !existing.containsKey(entry.getKey())) {
+                adder.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Nullable
+    private static MethodElement findMethod(ClassElement element, JsonNode endpointNode) {
+        var methodName = endpointNode.path(PROP_METHOD_NAME).asText(null);
+        if (methodName == null) {
+            return null;
+        }
+        var parameterTypes = new ArrayList<String>();
+        for (var parameterNode : endpointNode.path(PROP_PARAMETERS)) {
+            parameterTypes.add(parameterNode.asText());
+        }
+        for (MethodElement method : element.getEnclosedElements(ElementQuery.ALL_METHODS.named(methodName))) {
+            if (parameterTypes.equals(parameterTypes(method))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> parameterTypes(MethodElement method) {
+        var result = new ArrayList<String>(method.getParameters().length);
+        for (ParameterElement parameter : method.getParameters()) {
+            result.add(parameter.getType().getName());
+        }
+        return result;
+    }
+
+    /**
+     * Names of the components, except schemas, by component types.
+     *
+     * @param components components
+     *
+     * @return component names
+     */
+    private static Map<String, Set<String>> componentNames(@Nullable Components components) {
+        var result = new HashMap<String, Set<String>>();
+        if (components == null) {
+            return result;
+        }
+        addNames(result, COMPONENT_SECURITY_SCHEMES, components.getSecuritySchemes());
+        addNames(result, COMPONENT_RESPONSES, components.getResponses());
+        addNames(result, COMPONENT_PARAMETERS, components.getParameters());
+        addNames(result, COMPONENT_EXAMPLES, components.getExamples());
+        addNames(result, COMPONENT_REQUEST_BODIES, components.getRequestBodies());
+        addNames(result, COMPONENT_HEADERS, components.getHeaders());
+        addNames(result, COMPONENT_LINKS, components.getLinks());
+        addNames(result, COMPONENT_CALLBACKS, components.getCallbacks());
+        return result;
+    }
+
+    private static void addNames(Map<String, Set<String>> names, String type, @Nullable Map<String, ?> components) {
+        if (CollectionUtils.isNotEmpty(components)) {
+            names.computeIfAbsent(type, k -> new HashSet<>()).addAll(components.keySet());
+        }
+    }
+
+    /**
+     * Collect names of the components, referenced with {@code $ref} from the node.
+     *
+     * @param node JSON node
+     * @param refs found component names by component types
+     */
+    private static void collectComponentRefs(JsonNode node, Map<String, Set<String>> refs) {
+        if (node.isArray()) {
+            for (var item : node) {
+                collectComponentRefs(item, refs);
+            }
+            return;
+        }
+        var it = node.fields();
+        while (it.hasNext()) {
+            var entry = it.next();
+            var value = entry.getValue();
+            if (PROP_REF.equals(entry.getKey()) && value.isTextual() && value.asText().startsWith(COMPONENTS_REF_PREFIX)) {
+                var ref = value.asText();
+                var typeEnd = ref.indexOf('/', COMPONENTS_REF_PREFIX.length());
+                if (typeEnd > 0) {
+                    refs.computeIfAbsent(ref.substring(COMPONENTS_REF_PREFIX.length(), typeEnd), k -> new HashSet<>())
+                        .add(ref.substring(typeEnd + 1));
+                }
+            } else if (value.isContainerNode()) {
+                collectComponentRefs(value, refs);
+            }
+        }
+    }
+
+    private static String configHash(VisitorContext context) {
+        var sb = new StringBuilder();
+        sb.append(FORMAT_VERSION).append(Utils.isOpenapi31());
+        for (var property : new TreeSet<>(ALL)) {
+            sb.append(property).append('=').append(getConfigProperty(property, context)).append(';');
+        }
+        appendValue(sb, ContextUtils.getOptions(context));
+        appendValue(sb, readOpenApiConfigFile(context));
+        for (var entry : new TreeMap<>(System.getProperties()).entrySet()) {
+            if (entry.getKey().toString().startsWith(OPENAPI_PROPERTY_PREFIX)) {
+                sb.append(entry.getKey()).append('=').append(entry.getValue()).append(';');
+            }
+        }
+        return sha256(sb);
+    }
+
+    /**
+     * Calculate hash of the class metadata, which is used to generate OpenAPI fragment.
+     * Classes referenced from annotations (for example, {@code @Schema(implementation = Dto.class)})
+     * are hashed by their structure, same as method parameter and return types.
+     *
+     * @param element class element
+     * @param context visitor context
+     *
+     * @return hash
+     */
+    static String classHash(ClassElement element, @Nullable VisitorContext context) {
+        var hasher = new ClassHasher(context);
+        hasher.appendElement(element);
+        hasher.appendElement(element.getPackage());
+        element.getSuperType().ifPresent(hasher::appendType);
+        for (var parentInterface : element.getInterfaces()) {
+            hasher.appendType(parentInterface);
+        }
+        for (MethodElement method : element.getEnclosedElements(ElementQuery.ALL_METHODS)) {
+            hasher.appendElement(method);
+            hasher.appendType(method.getGenericReturnType());
+            for (ParameterElement parameter : method.getParameters()) {
+                hasher.appendElement(parameter);
+                hasher.appendType(parameter.getGenericType());
+            }
+        }
+        return sha256(hasher.sb);
+    }
+
+    private static void appendValue(StringBuilder sb, @Nullable Object value) {
+        new ClassHasher(sb, null).appendValue(null, value);
+    }
+
+    private static String sha256(CharSequence value) {
+        return FileUtils.sha256Hex(value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builder of the class metadata hash.
+     */
+    private static final class ClassHasher {
+
+        /**
+         * Annotation members with classes, which are used to generate schemas. Class values are usually
+         * {@link AnnotationClassValue}, but can be class names, if classes are not compiled yet.
+         */
+        private static final Set<String> CLASS_MEMBERS = Set.of("implementation", "not", "oneOf", "anyOf", "allOf", "subTypes");
+
+        private final StringBuilder sb;
+        @Nullable
+        private final VisitorContext context;
+        private final Set<String> visitedTypes = new HashSet<>();
+
+        private ClassHasher(@Nullable VisitorContext context) {
+            this(new StringBuilder(), context);
+        }
+
+        private ClassHasher(StringBuilder sb, @Nullable VisitorContext context) {
+            this.sb = sb;
+            this.context = context;
+        }
+
+        private void appendType(ClassElement type) {
+            if (type.isArray()) {
+                sb.append("[]");
+                appendType(type.fromArray());
+                return;
+            }
+            sb.append('<').append(type.getName());
+            for (var typeArg : type.getTypeArguments().values()) {
+                appendType(typeArg);
+            }
+            sb.append('>');
+            if (type.isPrimitive() || type.getName().startsWith(JAVA_PACKAGE_PREFIX) || !visitedTypes.add(type.getName())) {
+                return;
+            }
+            appendElement(type);
+            if (type instanceof EnumElement enumEl) {
+                sb.append(enumEl.values());
+            }
+            for (PropertyElement property : type.getBeanProperties()) {
+                appendElement(property);
+                appendType(property.getGenericType());
+            }
+            for (FieldElement field : type.getEnclosedElements(ElementQuery.ALL_FIELDS.onlyInstance())) {
+                appendElement(field);
+                appendType(field.getGenericType());
+            }
+        }
+
+        private void appendElement(Element element) {
+            sb.append(element.getName()).append('(');
+            AnnotationMetadata annotationMetadata = element.getAnnotationMetadata();
+            for (var annotationName : new TreeSet<>(annotationMetadata.getAnnotationNames())) {
+                annotationMetadata.findAnnotation(annotationName).ifPresent(ann -> appendValue(null, ann));
+            }
+            element.getDocumentation().ifPresent(sb::append);
+            sb.append(')');
+        }
+
+        private void appendValue(@Nullable String member, @Nullable Object value) {
+            if (value instanceof AnnotationValue<?> annValue) {
+                sb.append('@').append(annValue.getAnnotationName());
+                appendValue(null, annValue.getValues());
+            } else if (value instanceof AnnotationClassValue<?> classValue) {
+                sb.append(classValue.getName());
+                appendReferencedType(classValue.getName());
+            } else if (value instanceof Map<?, ?> map) {
+                var sorted = new TreeMap<String, Object>();
+                for (var entry : map.entrySet()) {
+                    sorted.put(String.valueOf(entry.getKey()), entry.getValue());
+                }
+                sb.append('{');
+                for (var entry : sorted.entrySet()) {
+                    sb.append(entry.getKey()).append('=');
+                    appendValue(entry.getKey(), entry.getValue());
+                    sb.append(',');
+                }
+                sb.append('}');
+            } else if (value instanceof Collection<?> collection) {
+                sb.append('[');
+                for (var item : collection) {
+                    appendValue(member, item);
+                    sb.append(',');
+                }
+                sb.append(']');
+            } else if (value != null && value.getClass().isArray()) {
+                sb.append('[');
+                for (int i = 0; i < Array.getLength(value); i++) {
+                    appendValue(member, Array.get(value, i));
+                    sb.append(',');
+                }
+                sb.append(']');
+            } else {
+                sb.append(value);
+                if (value instanceof String className && member != null && CLASS_MEMBERS.contains(member)) {
+                    appendReferencedType(className);
+                }
+            }
+        }
+
+        private void appendReferencedType(String className) {
+            if (context == null || className.startsWith(JAVA_PACKAGE_PREFIX) || visitedTypes.contains(className)) {
+                return;
+            }
+            ClassElement type = ContextUtils.getClassElement(className, context);
+            if (type != null) {
+                appendType(type);
+            }
+        }
+    }
+
+    /**
+     * OpenAPI fragment of the controller or endpoint class.
+     */
+    public static final class Fragment {
+
+        private final String hash;
+        /**
+         * Fragment from the cache, if the class was not changed.
+         */
+        @Nullable
+        private final JsonNode cached;
+        /**
+         * Names of the components before processing of the class.
+         */
+        @Nullable
+        private final Map<String, Set<String>> componentNamesBefore;
+        /**
+         * Fragment of the processed class, created when processing of the class is finished.
+         */
+        @Nullable
+        private ObjectNode node;
+        private final List<Pair<String, HttpMethod>> operationPaths = new ArrayList<>();
+        private final List<Operation> pathOperations = new ArrayList<>();
+        private final Map<String, PathItem> webhooks = new LinkedHashMap<>();
+        private final List<Pair<String, EndpointInfo>> endpoints = new ArrayList<>();
+
+        private Fragment(String hash, @Nullable JsonNode cached, @Nullable Map<String, Set<String>> componentNamesBefore) {
+            this.hash = hash;
+            this.cached = cached;
+            this.componentNamesBefore = componentNamesBefore;
+        }
+
+        /**
+         * @return true, if the fragment was restored from cache and class methods must not be processed.
+         */
+        public boolean isRestored() {
+            return cached != null;
+        }
+
+        public void addOperation(String url, HttpMethod httpMethod, Operation operation) {
+            operationPaths.add(Pair.of(url, httpMethod));
+            pathOperations.add(operation);
+        }
+
+        public void addWebhook(String name, PathItem pathItem) {
+            webhooks.put(name, pathItem);
+        }
+
+        public void addEndpoint(String methodKey, EndpointInfo endpointInfo) {
+            endpoints.add(Pair.of(methodKey, endpointInfo));
+        }
+
+        private ObjectNode toNode(OpenAPI openApi, ObjectMapper mapper) {
+            var node = mapper.createObjectNode();
+            node.put(PROP_HASH, hash);
+
+            var operationIndexes = new IdentityHashMap<Operation, Integer>();
+            ArrayNode operationsNode = node.putArray(PROP_OPERATIONS);
+            var pathsNode = node.putArray(PROP_PATHS);
+            var tagNames = new HashSet<String>();
+            // operations are stored once, paths and endpoints refer them by index
+            for (int i = 0; i < pathOperations.size(); i++) {
+                var operation = pathOperations.get(i);
+                var index = operationIndex(operation, operationIndexes, operationsNode, tagNames, mapper);
+                pathsNode.addObject()
+                    .put(PROP_URL, operationPaths.get(i).getFirst())
+                    .put(PROP_METHOD, operationPaths.get(i).getSecond().name())
+                    .put(PROP_OPERATION, index);
+            }
+            var endpointsNode = node.putArray(PROP_ENDPOINTS);
+            for (var endpoint : endpoints) {
+                var endpointInfo = endpoint.getSecond();
+                var endpointNode = endpointsNode.addObject()
+                    .put(PROP_KEY, endpoint.getFirst())
+                    .put(PROP_URL, endpointInfo.getUrl())
+                    .put(PROP_METHOD, endpointInfo.getHttpMethod().name())
+                    .put(PROP_OPERATION, operationIndex(endpointInfo.getOperation(), operationIndexes, operationsNode, tagNames, mapper))
+                    .put(PROP_VERSION, endpointInfo.getVersion());
+                if (endpointInfo.getMethod() != null) {
+                    endpointNode.put(PROP_METHOD_NAME, endpointInfo.getMethod().getName());
+                    var parametersNode = endpointNode.putArray(PROP_PARAMETERS);
+                    parameterTypes(endpointInfo.getMethod()).forEach(parametersNode::add);
+                }
+                var groupsNode = endpointNode.putObject(PROP_GROUPS);
+                if (CollectionUtils.isNotEmpty(endpointInfo.getGroups())) {
+                    for (var groupInfo : endpointInfo.getGroups().values()) {
+                        groupsNode.set(groupInfo.getName(), mapper.valueToTree(groupInfo.getExtensions()));
+                    }
+                }
+                var excludedGroupsNode = endpointNode.putArray(PROP_EXCLUDED_GROUPS);
+                if (CollectionUtils.isNotEmpty(endpointInfo.getExcludedGroups())) {
+                    endpointInfo.getExcludedGroups().forEach(excludedGroupsNode::add);
+                }
+            }
+            if (!webhooks.isEmpty()) {
+                node.set(PROP_WEBHOOKS, mapper.valueToTree(webhooks));
+            }
+
+            // tags with descriptions and other information, described at the OpenAPI level
+            if (CollectionUtils.isNotEmpty(openApi.getTags())) {
+                var tagsNode = node.putArray(PROP_TAGS);
+                for (var tag : openApi.getTags()) {
+                    if (tagNames.contains(tag.getName())) {
+                        tagsNode.add(mapper.valueToTree(tag));
+                    }
+                }
+            }
+
+            var components = openApi.getComponents();
+            if (components == null) {
+                return node;
+            }
+            var fragmentComponents = new Components();
+            var componentNames = contributedComponentNames(components, node, mapper);
+            copyComponents(components.getSecuritySchemes(), componentNames.get(COMPONENT_SECURITY_SCHEMES), fragmentComponents::addSecuritySchemes);
+            copyComponents(components.getResponses(), componentNames.get(COMPONENT_RESPONSES), fragmentComponents::addResponses);
+            copyComponents(components.getParameters(), componentNames.get(COMPONENT_PARAMETERS), fragmentComponents::addParameters);
+            copyComponents(components.getExamples(), componentNames.get(COMPONENT_EXAMPLES), fragmentComponents::addExamples);
+            copyComponents(components.getRequestBodies(), componentNames.get(COMPONENT_REQUEST_BODIES), fragmentComponents::addRequestBodies);
+            copyComponents(components.getHeaders(), componentNames.get(COMPONENT_HEADERS), fragmentComponents::addHeaders);
+            copyComponents(components.getLinks(), componentNames.get(COMPONENT_LINKS), fragmentComponents::addLinks);
+            copyComponents(components.getCallbacks(), componentNames.get(COMPONENT_CALLBACKS), fragmentComponents::addCallbacks);
+
+            var schemas = components.getSchemas();
+            if (CollectionUtils.isNotEmpty(schemas)) {
+                var fragmentOpenApi = new OpenAPI();
+                var fragmentPaths = new Paths();
+                for (int i = 0; i < pathOperations.size(); i++) {
+                    var pathItem = new PathItem();
+                    setOperationOnPathItem(pathItem, operationPaths.get(i).getSecond(), pathOperations.get(i));
+                    fragmentPaths.addPathItem(operationPaths.get(i).getFirst() + '#' + i, pathItem);
+                }
+                fragmentOpenApi.setPaths(fragmentPaths);
+                fragmentOpenApi.setWebhooks(webhooks);
+                // schemas can be referenced from other components of the fragment
+                var graphComponents = SchemaUtils.copyComponentsStructure(fragmentComponents);
+                graphComponents.setSchemas(schemas);
+                fragmentOpenApi.setComponents(graphComponents);
+
+                var schemaNameToClassNameMap = SchemaDefinitionUtils.getSchemaNameToClassNameMap();
+                var schemaClassesNode = node.putObject(PROP_SCHEMA_CLASSES);
+                var reachableSchemas = SchemaRefGraph.build(fragmentOpenApi).findReachable(Collections.emptyList());
+                for (var entry : schemas.entrySet()) {
+                    var schemaName = entry.getKey();
+                    if (!reachableSchemas.contains(schemaName)) {
+                        continue;
+                    }
+                    fragmentComponents.addSchemas(schemaName, entry.getValue());
+                    var className = schemaNameToClassNameMap.get(schemaName);
+                    if (className != null) {
+                        schemaClassesNode.put(schemaName, className);
+                    }
+                }
+            }
+            node.set(PROP_COMPONENTS, mapper.valueToTree(fragmentComponents));
+            return node;
+        }
+
+        /**
+         * Find components, except schemas, contributed by the class: components added while the class was processed
+         * and components referenced from its operations, webhooks and other contributed components. For example,
+         * the default security scheme is added by the first secured controller, but referenced by all of them.
+         *
+         * @param components components of the OpenAPI document
+         * @param node fragment node with operations and webhooks
+         * @param mapper object mapper
+         *
+         * @return component names by component types
+         */
+        private Map<String, Set<String>> contributedComponentNames(Components components, ObjectNode node, ObjectMapper mapper) {
+            var allNames = componentNames(components);
+            var result = new HashMap<String, Set<String>>();
+            for (var entry : allNames.entrySet()) {
+                var before = componentNamesBefore != null ? componentNamesBefore.get(entry.getKey()) : null;
+                for (var name : entry.getValue()) {
+                    if (before == null || !before.contains(name)) {
+                        result.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).add(name);
+                    }
+                }
+            }
+            var refs = new HashMap<String, Set<String>>();
+            collectComponentRefs(node.path(PROP_OPERATIONS), refs);
+            collectComponentRefs(node.path(PROP_WEBHOOKS), refs);
+            for (var operation : pathOperations) {
+                addSecuritySchemeNames(operation, refs);
+            }
+            for (var endpoint : endpoints) {
+                addSecuritySchemeNames(endpoint.getSecond().getOperation(), refs);
+            }
+            // components can refer other components, so references are resolved until there are no new names
+            while (!refs.isEmpty()) {
+                var added = new HashMap<String, Set<String>>();
+                for (var entry : refs.entrySet()) {
+                    var known = allNames.get(entry.getKey());
+                    for (var name : entry.getValue()) {
+                        if (known != null && known.contains(name) && result.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).add(name)) {
+                            added.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).add(name);
+                        }
+                    }
+                }
+                refs = new HashMap<>();
+                if (!added.isEmpty()) {
+                    var addedComponents = new Components();
+                    copyComponents(components.getResponses(), added.get(COMPONENT_RESPONSES), addedComponents::addResponses);
+                    copyComponents(components.getParameters(), added.get(COMPONENT_PARAMETERS), addedComponents::addParameters);
+                    copyComponents(components.getRequestBodies(), added.get(COMPONENT_REQUEST_BODIES), addedComponents::addRequestBodies);
+                    copyComponents(components.getHeaders(), added.get(COMPONENT_HEADERS), addedComponents::addHeaders);
+                    copyComponents(components.getCallbacks(), added.get(COMPONENT_CALLBACKS), addedComponents::addCallbacks);
+                    collectComponentRefs(mapper.valueToTree(addedComponents), refs);
+                }
+            }
+            return result;
+        }
+
+        private static void addSecuritySchemeNames(@Nullable Operation operation, Map<String, Set<String>> refs) {
+            if (operation == null || CollectionUtils.isEmpty(operation.getSecurity())) {
+                return;
+            }
+            for (var securityRequirement : operation.getSecurity()) {
+                refs.computeIfAbsent(COMPONENT_SECURITY_SCHEMES, k -> new HashSet<>()).addAll(securityRequirement.keySet());
+            }
+        }
+
+        private static <T> void copyComponents(@Nullable Map<String, T> from, @Nullable Set<String> names, BiConsumer<String, T> to) {
+            if (from == null || names == null) {
+                return;
+            }
+            for (var entry : from.entrySet()) {
+                if (names.contains(entry.getKey())) {
+                    to.accept(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        private int operationIndex(Operation operation, Map<Operation, Integer> operationIndexes, ArrayNode operationsNode,
+                                   Set<String> tagNames, ObjectMapper mapper) {
+            var index = operationIndexes.get(operation);
+            if (index == null) {
+                index = operationsNode.size();
+                operationIndexes.put(operation, index);
+                operationsNode.add(mapper.valueToTree(operation));
+                if (operation.getTags() != null) {
+                    tagNames.addAll(operation.getTags());
+                }
+            }
+            return index;
+        }
+    }
+}
@@ -63,22 +63,29 @@ import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import static io.micronaut.openapi.OpenApiUtils.EXT_SMILE;
 import static io.micronaut.openapi.visitor.ConfigUtils.endpointsConfiguration;
 import static io.micronaut.openapi.visitor.ConfigUtils.getAdocProperties;
 import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getEnv;
 import static io.micronaut.openapi.visitor.ConfigUtils.getExpandableProperties;
+import static io.micronaut.openapi.visitor.ConfigUtils.getExpandablePropertiesExpander;
 import static io.micronaut.openapi.visitor.ConfigUtils.getGroupProperties;
+import static io.micronaut.openapi.visitor.ConfigUtils.getOutputFormats;
+import static io.micronaut.openapi.visitor.ConfigUtils.isAdditionalFilesParallelEnabled;
+import static io.micronaut.openapi.visitor.ConfigUtils.isCanonicalEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.isOpenApiEnabled;
+import static io.micronaut.openapi.visitor.ConfigUtils.isParallelEnabled;
+import static io.micronaut.openapi.visitor.ConfigUtils.isSmileEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.isSpecGenerationEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.readOpenApiConfigFile;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_OPENAPI_ENDPOINT_CLASS_TAGS;
@@ -87,18 +94,16 @@ import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_OP
 import static io.micronaut.openapi.visitor.ContextUtils.addGeneratedResource;
 import static io.micronaut.openapi.visitor.ContextUtils.info;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
-import static io.micronaut.openapi.visitor.FileUtils.EXT_JSON;
-import static io.micronaut.openapi.visitor.FileUtils.EXT_YML;
 import static io.micronaut.openapi.visitor.FileUtils.calcFinalFilename;
 import static io.micronaut.openapi.visitor.FileUtils.getDefaultFilePath;
 import static io.micronaut.openapi.visitor.FileUtils.getViewsDestDir;
 import static io.micronaut.openapi.visitor.FileUtils.openApiSpecFile;
 import static io.micronaut.openapi.visitor.FileUtils.resolve;
+import static io.micronaut.openapi.visitor.FileUtils.writePrecompressed;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.ALL;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_APPLICATION_NAME;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_CONTEXT_SERVER_PATH;
-import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PROPERTY_NAMING_STRATEGY;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_SPEC;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.SPRING_APPLICATION_NAME;
@@ -106,16 +111,28 @@ import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_SECURITY;
 import static io.micronaut.openapi.visitor.OpenApiNormalizeUtils.findAndRemoveDuplicates;
 import static io.micronaut.openapi.visitor.OpenApiNormalizeUtils.normalizeOpenApi;
 import static io.micronaut.openapi.visitor.OpenApiNormalizeUtils.removeEmptyComponents;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_ADOC;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_DIVIDE_BY_GROUPS;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_FINISH;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_MERGE_ENDPOINT_INFOS;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_NORMALIZE;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_POST_PROCESS;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_PROCESS_ENDPOINTS;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_REMOVE_UNUSED_SCHEMAS;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_RESOLVE_PLACEHOLDERS;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_SERIALIZE;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_VIEWS;
+import static io.micronaut.openapi.visitor.ProcessingMetrics.PHASE_WRITE;
 import static io.micronaut.openapi.visitor.SchemaDefinitionUtils.toValue;
+import static io.micronaut.openapi.visitor.SchemaUtils.copyComponentsStructure;
 import static io.micronaut.openapi.visitor.SchemaUtils.copyOpenApi;
+import static io.micronaut.openapi.visitor.SchemaUtils.copyOpenApiStructure;
 import static io.micronaut.openapi.visitor.SchemaUtils.getOperationOnPathItem;
 import static io.micronaut.openapi.visitor.SchemaUtils.resolveSchemas;
 import static io.micronaut.openapi.visitor.SchemaUtils.setOperationOnPathItem;
 import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_POSTFIX;
 import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_PREFIX;
-import static io.micronaut.openapi.visitor.StringUtil.QUOTE;
 import static io.micronaut.openapi.visitor.Utils.resolveComponents;
-import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
 
 /**
  * Visits the application class.
@@ -128,7 +145,11 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
     public static final String DEFAULT_OPENAPI_TITLE = "Service";
     public static final String DEFAULT_OPENAPI_VERSION = "1.0.0";
 
-    private static final int MAX_ITERATIONS = 100;
+    /**
+     * Prefix of the placeholder regular expression in the legacy expandable properties list.
+     */
+    private static final String EXPANDABLE_PROPERTY_REGEX_PREFIX = "\\$\\{";
+
     private ClassElement classElement;
     private int visitedElements = -1;
 
@@ -237,6 +258,12 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
             var pathStr = path.toString().toLowerCase();
             return FileUtils.isYaml(pathStr) || FileUtils.isJson(pathStr);
         })) {
+            if (isAdditionalFilesParallelEnabled(context)) {
+                var files = new ArrayList<Path>();
+                paths.forEach(files::add);
+                AdditionalFilesMerger.merge(openApi, files, context);
+                return;
+            }
             for (var path : paths) {
                 boolean isYaml = FileUtils.isYaml(path.toString().toLowerCase());
                 info("Reading Swagger OpenAPI " + (isYaml ? "YAML" : "JSON") + " file " + path.getFileName(), context);
@@ -403,36 +430,53 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
-    public static String expandProperties(String s, List<Pair<String, String>> properties, VisitorContext context) {
+    public static String expandProperties(String s, PlaceholderExpander expander, VisitorContext context) {
         if (StringUtils.isEmpty(s) || !s.contains(PLACEHOLDER_PREFIX)) {
             return s;
         }
 
         // form openapi file (expandable properties)
+        s = expander.expand(s);
+
+        return replacePlaceholders(s, context);
+    }
+
+    /**
+     * Expand placeholders in the string.
+     *
+     * @param s string with placeholders
+     * @param properties expandable properties: regular expressions of placeholders and values
+     * @param context visitor context
+     *
+     * @return string with expanded placeholders
+     *
+     * @deprecated Placeholders are replaced in one pass, use {@link #expandProperties(String, PlaceholderExpander, VisitorContext)} instead
+     */
+    @Deprecated(forRemoval = true)
+    public static String expandProperties(String s, List<Pair<String, String>> properties, VisitorContext context) {
+        var values = new LinkedHashMap<String, String>();
         if (CollectionUtils.isNotEmpty(properties)) {
             for (Pair<String, String> entry : properties) {
-                s = s.replaceAll(entry.getFirst(), entry.getSecond());
+                var key = entry.getFirst();
+                if (key.startsWith(EXPANDABLE_PROPERTY_REGEX_PREFIX) && key.endsWith(PLACEHOLDER_POSTFIX)) {
+                    key = key.substring(EXPANDABLE_PROPERTY_REGEX_PREFIX.length(), key.length() - PLACEHOLDER_POSTFIX.length());
+                }
+                values.putIfAbsent(key, entry.getSecond());
             }
         }
-
-        return replacePlaceholders(s, context);
+        return expandProperties(s, new PlaceholderExpander(values), context);
     }
 
     public static String replacePlaceholders(String value, VisitorContext context) {
         if (StringUtils.isEmpty(value) || !value.contains(PLACEHOLDER_PREFIX)) {
             return value;
         }
-        // system properties
-        if (CollectionUtils.isNotEmpty(System.getProperties())) {
-            for (Map.Entry<Object, Object> sysProp : System.getProperties().entrySet()) {
-                value = value.replace(PLACEHOLDER_PREFIX + sysProp.getKey().toString() + PLACEHOLDER_POSTFIX, sysProp.getValue().toString());
-            }
-        }
-
-        // form openapi file
-        for (Map.Entry<Object, Object> fileProp : readOpenApiConfigFile(context).entrySet()) {
-            value = value.replace(PLACEHOLDER_PREFIX + fileProp.getKey().toString() + PLACEHOLDER_POSTFIX, fileProp.getValue().toString());
-        }
+        // system properties, then openapi file
+        var fileProps = readOpenApiConfigFile(context);
+        value = PlaceholderExpander.expand(value, key -> {
+            var propValue = System.getProperty(key);
+            return propValue != null ? propValue : fileProps.getProperty(key);
+        });
 
         // from environments
         Environment environment = getEnv(context);
@@ -448,7 +492,8 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         if (CollectionUtils.isNotEmpty(expandableProperties)) {
             info("Expanding properties: " + expandableProperties, context);
         }
-        JsonNode root = resolvePlaceholders(Utils.getYamlMapper().convertValue(openAPI, ObjectNode.class), s -> expandProperties(s, expandableProperties, context));
+        var expander = getExpandablePropertiesExpander(context);
+        JsonNode root = resolvePlaceholders(Utils.getYamlMapper().convertValue(openAPI, ObjectNode.class), s -> expandProperties(s, expander, context));
         return Utils.getYamlMapper().convertValue(root, OpenAPI.class);
     }
 
@@ -463,31 +508,58 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                 return;
             }
 
-            Map<Pair<String, String>, OpenApiInfo> openApiInfos = null;
-            String documentTitle = "OpenAPI";
+            var measurement = ProcessingMetrics.start(PHASE_FINISH, context);
+            try {
+                generate(context);
+            } finally {
+                ProcessingMetrics.stop(measurement);
+            }
+            ProcessingMetrics.writeReport(context);
+        } catch (Exception e) {
+            warn("Error:\n" + Utils.printStackTrace(e), context);
+            throw e;
+        }
+    }
 
-            if (isSpecGenerationEnabled(context)) {
-                OpenAPI openApi = ContextUtils.get(Utils.ATTR_OPENAPI, OpenAPI.class, context);
-                if (openApi == null) {
-                    return;
-                }
-                processEndpoints(context);
+    private void generate(VisitorContext context) {
 
-                mergeMicronautEndpointInfos(openApi, context);
-                openApiInfos = divideOpenapiByGroupsAndVersions(openApi, context);
-                if (Utils.isTestMode()) {
-                    Utils.setTestReferences(openApiInfos);
-                }
+        Map<Pair<String, String>, OpenApiInfo> openApiInfos = null;
+        String documentTitle = "OpenAPI";
 
-                String isJson = getConfigProperty(MICRONAUT_OPENAPI_JSON_FORMAT, context);
-                boolean isYaml = !(StringUtils.isNotEmpty(isJson) && isJson.equalsIgnoreCase(StringUtils.TRUE));
-                String ext = isYaml ? EXT_YML : EXT_JSON;
+        if (isSpecGenerationEnabled(context)) {
+            OpenAPI openApi = ContextUtils.get(Utils.ATTR_OPENAPI, OpenAPI.class, context);
+            if (openApi == null) {
+                return;
+            }
+            // store fragments before post-processing, which changes shared objects
+            FragmentCache.save(openApi, context);
+            info("Schema resolution cache: " + SchemaDefinitionUtils.getResolvedSchemaHits() + " hits, "
+                + SchemaDefinitionUtils.getResolvedSchemaMisses() + " misses", context);
+            info("Javadoc markdown conversions: " + Utils.getJavadocParser().getConvertedCount() + " converted, "
+                + Utils.getJavadocParser().getSkippedCount() + " skipped as plain text", context);
+            ProcessingMetrics.run(PHASE_PROCESS_ENDPOINTS, context, () -> processEndpoints(context));
+
+            var mergedOpenApi = openApi;
+            ProcessingMetrics.run(PHASE_MERGE_ENDPOINT_INFOS, context, () -> mergeMicronautEndpointInfos(mergedOpenApi, context));
+            openApiInfos = ProcessingMetrics.measure(PHASE_DIVIDE_BY_GROUPS, context, () -> divideOpenapiByGroupsAndVersions(mergedOpenApi, context));
+            if (Utils.isTestMode()) {
+                Utils.setTestReferences(openApiInfos);
+            }
+
+            List<OpenApiOutputFormat> formats = getOutputFormats(context);
+            String ext = formats.get(0).ext();
 
+            if (isParallelEnabled(context) && openApiInfos.size() > 1) {
+                documentTitle = processAndWriteParallel(openApiInfos, context, formats);
+            } else {
                 for (Map.Entry<Pair<String, String>, OpenApiInfo> entry : openApiInfos.entrySet()) {
 
                     OpenApiInfo openApiInfo = entry.getValue();
 
                     openApi = openApiInfo.getOpenApi();
+                    if (openApi != mergedOpenApi) {
+                        detachMutableObjects(openApi, context);
+                    }
 
                     openApi = postProcessOpenApi(openApi, context);
                     openApiInfo.setOpenApi(openApi);
@@ -501,19 +573,18 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                     openApiInfo.setFilename(titleAndFilename.getSecond());
                 }
 
-                writeYamlToFile(openApiInfos, documentTitle, context, isYaml);
+                writeYamlToFile(openApiInfos, documentTitle, context, formats);
             }
+        }
 
-            generateViews(documentTitle, openApiInfos, context);
+        var finalDocumentTitle = documentTitle;
+        var finalOpenApiInfos = openApiInfos;
+        ProcessingMetrics.run(PHASE_VIEWS, context, () -> generateViews(finalDocumentTitle, finalOpenApiInfos, context));
 
-            visitedElements = visitedElements(context);
-        } catch (Exception e) {
-            warn("Error:\n" + Utils.printStackTrace(e), context);
-            throw e;
-        }
+        visitedElements = visitedElements(context);
     }
 
-    private Map<Pair<String, String>, OpenApiInfo> divideOpenapiByGroupsAndVersions(OpenAPI openApi, VisitorContext context) {
+    Map<Pair<String, String>, OpenApiInfo> divideOpenapiByGroupsAndVersions(OpenAPI openApi, VisitorContext context) {
         Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos();
         Set<String> allVersions = Utils.getAllKnownVersions();
         Set<String> allGroups = Utils.getAllKnownGroups();
@@ -583,26 +654,31 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
         PathItem pathItem = paths.computeIfAbsent(endpointInfo.getUrl(), (pathUrl) -> new PathItem());
         Operation operation = getOperationOnPathItem(pathItem, endpointInfo.getHttpMethod());
+        // the endpoint operation is added to several group documents, so every document gets its own copy
+        Operation opCopy = copyOperation(endpointInfo.getOperation(), context);
         if (operation == null) {
-            Operation opCopy = null;
-            try {
-                opCopy = OpenApiUtils.getJsonMapper().treeToValue(OpenApiUtils.getJsonMapper().valueToTree(endpointInfo.getOperation()), Operation.class);
-                if (endpointGroupInfo != null) {
-                    addExtensions(opCopy, endpointGroupInfo.getExtensions());
-                }
-            } catch (JsonProcessingException e) {
-                warn("Error\n" + Utils.printStackTrace(e), context);
+            if (endpointGroupInfo != null) {
+                addExtensions(opCopy, endpointGroupInfo.getExtensions());
             }
-            setOperationOnPathItem(pathItem, endpointInfo.getHttpMethod(), opCopy != null ? opCopy : endpointInfo.getOperation());
+            setOperationOnPathItem(pathItem, endpointInfo.getHttpMethod(), opCopy);
             return;
         }
-        var mergedOp = SchemaUtils.mergeOperations(operation, endpointInfo.getOperation());
+        var mergedOp = SchemaUtils.mergeOperations(operation, opCopy);
         if (endpointGroupInfo != null) {
             addExtensions(mergedOp, endpointGroupInfo.getExtensions());
         }
         setOperationOnPathItem(pathItem, endpointInfo.getHttpMethod(), mergedOp);
     }
 
+    private Operation copyOperation(Operation operation, VisitorContext context) {
+        try {
+            return OpenApiUtils.getJsonMapper().treeToValue(OpenApiUtils.getJsonMapper().valueToTree(operation), Operation.class);
+        } catch (JsonProcessingException e) {
+            warn("Error\n" + Utils.printStackTrace(e), context);
+            return operation;
+        }
+    }
+
     private void addExtensions(Operation operation, Map<CharSequence, Object> extensions) {
         if (CollectionUtils.isEmpty(extensions)) {
             return;
@@ -642,37 +718,28 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
 
             openApiInfoMap.put(key, openApiInfo);
 
-            OpenAPI openApiCopy;
-            try {
-                openApiCopy = Utils.getJsonMapper().treeToValue(Utils.getJsonMapper().valueToTree(openApi), OpenAPI.class);
-            } catch (JsonProcessingException e) {
-                warn("Error\n" + Utils.printStackTrace(e), context);
-                return null;
-            }
-
+            // Group documents share model objects with the base document, only containers are copied.
+            // Objects, which are modified by post-processing, are copied before post-processing
+            // of every group document.
             if (CollectionUtils.isEmpty(knownOpenApis) || !knownOpenApis.containsKey(groupName)) {
-                newOpenApi.setTags(openApiCopy.getTags());
-                newOpenApi.setServers(openApiCopy.getServers());
-                newOpenApi.setInfo(openApiCopy.getInfo());
-                newOpenApi.setSecurity(openApiCopy.getSecurity());
-                newOpenApi.setExternalDocs(openApiCopy.getExternalDocs());
-                newOpenApi.setExtensions(openApiCopy.getExtensions());
+                copyOpenApiStructure(openApi, newOpenApi);
             }
+            var componentsCopy = copyComponentsStructure(openApi.getComponents());
 
             // if we have SecuritySchemes specified only for group
             var groupSecuritySchemes = newOpenApi.getComponents() != null ? newOpenApi.getComponents().getSecuritySchemes() : null;
             if (CollectionUtils.isNotEmpty(groupSecuritySchemes)
-                && openApiCopy.getComponents() != null
-                && CollectionUtils.isNotEmpty(openApiCopy.getComponents().getSecuritySchemes())) {
+                && componentsCopy != null
+                && CollectionUtils.isNotEmpty(componentsCopy.getSecuritySchemes())) {
 
-                for (var entry : openApiCopy.getComponents().getSecuritySchemes().entrySet()) {
+                for (var entry : componentsCopy.getSecuritySchemes().entrySet()) {
                     if (!groupSecuritySchemes.containsKey(entry.getKey())) {
                         groupSecuritySchemes.put(entry.getKey(), entry.getValue());
                     }
                 }
             }
 
-            newOpenApi.setComponents(openApiCopy.getComponents());
+            newOpenApi.setComponents(componentsCopy);
             if (CollectionUtils.isNotEmpty(groupSecuritySchemes)) {
                 resolveComponents(newOpenApi).setSecuritySchemes(groupSecuritySchemes);
             }
@@ -683,7 +750,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         return newOpenApi;
     }
 
-    private void mergeMicronautEndpointInfos(OpenAPI openApi, VisitorContext context) {
+    void mergeMicronautEndpointInfos(OpenAPI openApi, VisitorContext context) {
 
         Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos();
         if (CollectionUtils.isEmpty(endpointInfosMap)) {
@@ -710,28 +777,48 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         return 100;
     }
 
+    /**
+     * Result of the parallel processing of the group document.
+     *
+     * @param documentTitle document title
+     * @param contents serialized document in all output formats, in the same order as formats
+     * @param adocProperties openapi-adoc properties
+     * @param adoc document in adoc format
+     */
+    private record GroupResult(
+        String documentTitle,
+        @Nullable List<String> contents,
+        @Nullable Map<String, String> adocProperties,
+        @Nullable String adoc
+    ) {
+    }
+
     private OpenAPI postProcessOpenApi(OpenAPI openApi, VisitorContext context) {
+        return ProcessingMetrics.measure(PHASE_POST_PROCESS, context, () -> doPostProcessOpenApi(openApi, context));
+    }
+
+    private OpenAPI doPostProcessOpenApi(OpenAPI openApi, VisitorContext context) {
 
         fixInfoBlockIfNeeded(openApi, context);
         applyPropertyNamingStrategy(openApi, context);
         applyPropertyServerContextPath(openApi, context);
 
-        normalizeOpenApi(openApi, context);
-        normalizeOpenApi(openApi, context);
+        ProcessingMetrics.run(PHASE_NORMALIZE, context, () -> {
+            normalizeOpenApi(openApi, context);
+            normalizeOpenApi(openApi, context);
+        });
         // Process after sorting so order is stable
         new JacksonDiscriminatorPostProcessor().addMissingDiscriminatorType(openApi);
         new OpenApiOperationsPostProcessor().processOperations(openApi);
 
-        removeUnusedSchemas(openApi);
+        ProcessingMetrics.run(PHASE_REMOVE_UNUSED_SCHEMAS, context, () -> removeUnusedSchemas(openApi));
 
         removeEmptyComponents(openApi);
         findAndRemoveDuplicates(openApi);
 
         addExtraSchemas(openApi, context);
 
-        openApi = resolvePropertyPlaceHolders(openApi, context);
-
-        return openApi;
+        return ProcessingMetrics.measure(PHASE_RESOLVE_PLACEHOLDERS, context, () -> resolvePropertyPlaceHolders(openApi, context));
     }
 
     private void fixInfoBlockIfNeeded(OpenAPI openApi, VisitorContext context) {
@@ -752,46 +839,47 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
+    /**
+     * Remove all component schemas, which are not reachable from paths, webhooks, callbacks,
+     * other components or extra schemas.
+     *
+     * @param openApi openAPI object
+     */
     public static void removeUnusedSchemas(OpenAPI openApi) {
-        int i = 0;
-        // remove unused schemas
-        while (removeUnusedSchemasIter(openApi) && i < MAX_ITERATIONS) {
-            i++;
-        }
-    }
-
-    public static boolean removeUnusedSchemasIter(OpenAPI openApi) {
         if (openApi.getComponents() == null) {
-            return false;
+            return;
         }
         Map<String, Schema> schemas = openApi.getComponents().getSchemas();
         if (CollectionUtils.isEmpty(schemas)) {
-            return false;
+            return;
         }
 
         var extraSchemas = OpenApiExtraSchemaVisitor.getExtraSchemas();
-        var removed = false;
+        var reachable = SchemaRefGraph.build(openApi).findReachable(extraSchemas.keySet());
+        schemas.keySet().retainAll(reachable);
+        // check excluded extra schemas also
+        for (String schemaName : OpenApiExtraSchemaVisitor.getExcludedExtraSchemas()) {
+            schemas.remove(schemaName);
+        }
+    }
 
-        try {
-            String openApiJson = Utils.getJsonMapper().writeValueAsString(openApi);
-            // Create a copy of the keySet so that we can modify the map while in a foreach
-            var keySet = new HashSet<>(schemas.keySet());
-            for (String schemaName : keySet) {
-                if (!openApiJson.contains(QUOTE + COMPONENTS_SCHEMAS_REF + schemaName + QUOTE)
-                    && !extraSchemas.containsKey(schemaName)
-                ) {
-                    schemas.remove(schemaName);
-                    removed = true;
-                }
-            }
-            // check excluded extra schemas also
-            for (String schemaName : OpenApiExtraSchemaVisitor.getExcludedExtraSchemas()) {
-                schemas.remove(schemaName);
-            }
-        } catch (JsonProcessingException e) {
-            // do nothing
+    /**
+     * Remove unused component schemas.
+     *
+     * @param openApi openAPI object
+     *
+     * @return true if some schemas were removed
+     *
+     * @deprecated Unused schemas are removed in one pass, use {@link #removeUnusedSchemas(OpenAPI)} instead
+     */
+    @Deprecated(forRemoval = true)
+    public static boolean removeUnusedSchemasIter(OpenAPI openApi) {
+        if (openApi.getComponents() == null || CollectionUtils.isEmpty(openApi.getComponents().getSchemas())) {
+            return false;
         }
-        return removed;
+        int size = openApi.getComponents().getSchemas().size();
+        removeUnusedSchemas(openApi);
+        return openApi.getComponents().getSchemas().size() < size;
     }
 
     private void addExtraSchemas(OpenAPI openApi, VisitorContext context) {
@@ -841,49 +929,271 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
-    private void writeYamlToFile(Map<Pair<String, String>, OpenApiInfo> openApiInfos, String documentTitle, VisitorContext context, boolean isYaml) {
+    /**
+     * Post-process, serialize and convert to AsciiDoc all group documents in parallel. Group documents
+     * share model objects with each other, so first objects, which are modified by post-processing,
+     * are copied for every document (see {@link SchemaUtils#detachMutableObjects(OpenAPI, com.fasterxml.jackson.databind.ObjectMapper)}),
+     * and only then documents are modified concurrently. Shared objects of other types are only read.
+     * Files are written and registered as generated resources sequentially in the same order as in the sequential mode.
+     *
+     * @param openApiInfos group documents
+     * @param context visitor context
+     * @param formats output formats
+     *
+     * @return document title
+     */
+    private String processAndWriteParallel(Map<Pair<String, String>, OpenApiInfo> openApiInfos, VisitorContext context, List<OpenApiOutputFormat> formats) {
 
-        var isAdocModuleInClassPath = false;
-        var isGlobalAdocEnabled = ConfigUtils.isAdocEnabled(context);
+        var ext = formats.get(0).ext();
+        var isAdocEnabled = isAdocModuleInClassPath() && ConfigUtils.isAdocEnabled(context);
+        var threads = ParallelUtils.getParallelThreads(context);
+        var openApiInfoList = new ArrayList<>(openApiInfos.values());
+
+        // load lazy initialized configuration before start parallel tasks
+        getEnv(context);
+        readOpenApiConfigFile(context);
+        getExpandableProperties(context);
+        ContextUtils.getClassesOutputPath(context);
+
+        info("Processing " + openApiInfoList.size() + " OpenAPI documents in parallel, threads: " + threads, context);
+
+        var detachTasks = new ArrayList<Callable<Void>>(openApiInfoList.size());
+        for (var openApiInfo : openApiInfoList) {
+            detachTasks.add(() -> {
+                detachMutableObjects(openApiInfo.getOpenApi(), context);
+                return null;
+            });
+        }
+        ParallelUtils.invokeAll(detachTasks, threads);
+
+        var processTasks = new ArrayList<Callable<GroupResult>>(openApiInfoList.size());
+        for (var openApiInfo : openApiInfoList) {
+            processTasks.add(() -> {
+                var openApi = postProcessOpenApi(openApiInfo.getOpenApi(), context);
+                openApiInfo.setOpenApi(openApi);
+
+                var titleAndFilename = calcFinalFilename(openApiInfo.getFilename(), openApiInfo, false, ext, context);
+                openApiInfo.setFilename(titleAndFilename.getSecond());
+
+                List<String> contents;
+                var serializeMeasurement = ProcessingMetrics.start(PHASE_SERIALIZE, context);
+                try {
+                    // documents are already processed in parallel, so formats of one document are written
+                    // in the current thread (threads = 1)
+                    contents = writeAsStrings(openApi, formats, 1, context);
+                } catch (Exception e) {
+                    warn("Unable to generate swagger" + ext + ": " + openApiInfo.getFilename() + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
+                    return new GroupResult(titleAndFilename.getFirst(), null, null, null);
+                } finally {
+                    ProcessingMetrics.stop(serializeMeasurement);
+                }
+
+                Map<String, String> adocProperties = null;
+                String adoc = null;
+                if (isAdocEnabled && openApiInfo.isAdocEnabled()) {
+                    adocProperties = getAdocProperties(openApiInfo, false, context);
+                    var adocMeasurement = ProcessingMetrics.start(PHASE_ADOC, context);
+                    try {
+                        adoc = AdocModule.render(openApiInfo, adocProperties);
+                    } catch (Exception e) {
+                        warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e), context);
+                    } finally {
+                        ProcessingMetrics.stop(adocMeasurement);
+                    }
+                }
+                return new GroupResult(titleAndFilename.getFirst(), contents, adocProperties, adoc);
+            });
+        }
+        List<GroupResult> results = ParallelUtils.invokeAll(processTasks, threads);
+
+        String documentTitle = null;
+        for (var i = 0; i < openApiInfoList.size(); i++) {
+            var openApiInfo = openApiInfoList.get(i);
+            var result = results.get(i);
+            // need to set test reference to openApi after post-processing
+            if (Utils.isTestMode()) {
+                Utils.setTestReference(openApiInfo.getOpenApi());
+            }
+            documentTitle = result.documentTitle();
+            if (result.contents() == null || !writeOpenApiFiles(openApiInfo, formats, result.contents(), context)) {
+                continue;
+            }
+            if (result.adoc() != null) {
+                var adocMeasurement = ProcessingMetrics.start(PHASE_ADOC, context);
+                try {
+                    AdocModule.write(openApiInfo, result.adocProperties(), result.adoc(), context);
+                } catch (Exception e) {
+                    warn("Can't convert to ADoc format\n" + Utils.printStackTrace(e), context);
+                } finally {
+                    ProcessingMetrics.stop(adocMeasurement);
+                }
+            }
+        }
+        return documentTitle;
+    }
 
+    private void detachMutableObjects(OpenAPI openApi, VisitorContext context) {
         try {
-            Class.forName("io.micronaut.openapi.adoc.OpenApiToAdocConverter");
-            isAdocModuleInClassPath = true;
-        } catch (ClassNotFoundException e) {
-            // do nothing
+            SchemaUtils.detachMutableObjects(openApi, Utils.getJsonMapper());
+        } catch (JsonProcessingException e) {
+            warn("Can't copy shared objects of OpenAPI document: " + e.getMessage(), context);
         }
+    }
+
+    private void writeYamlToFile(Map<Pair<String, String>, OpenApiInfo> openApiInfos, String documentTitle, VisitorContext context, List<OpenApiOutputFormat> formats) {
 
-        var objectMapper = isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper();
+        var isAdocModuleInClassPath = isAdocModuleInClassPath();
+        var isGlobalAdocEnabled = ConfigUtils.isAdocEnabled(context);
+        var threads = formats.size() > 1 ? ParallelUtils.getParallelThreads(context) : 1;
 
         for (OpenApiInfo openApiInfo : openApiInfos.values()) {
+            List<String> contents;
+            var serializeMeasurement = ProcessingMetrics.start(PHASE_SERIALIZE, context);
+            try {
+                contents = writeAsStrings(openApiInfo.getOpenApi(), formats, threads, context);
+            } catch (Exception e) {
+                warn("Unable to generate swagger" + formats.get(0).ext() + ": " + openApiInfo.getFilename() + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
+                continue;
+            } finally {
+                ProcessingMetrics.stop(serializeMeasurement);
+            }
+            if (writeOpenApiFiles(openApiInfo, formats, contents, context)
+                && isAdocModuleInClassPath && isGlobalAdocEnabled && openApiInfo.isAdocEnabled()) {
+                var adocProperties = getAdocProperties(openApiInfo, openApiInfos.size() == 1, context);
+                ProcessingMetrics.run(PHASE_ADOC, context, () -> AdocModule.convert(openApiInfo, adocProperties, context));
+            }
+        }
+    }
+
+    /**
+     * Serialize OpenAPI document to all output formats. If there are several formats, the model
+     * is serialized only once, and then the formats are written from the same tokens, in parallel
+     * if {@code threads} is greater than 1, otherwise sequentially in the current thread.
+     *
+     * @param openApi OpenAPI document
+     * @param formats output formats
+     * @param threads maximum number of threads
+     * @param context visitor context
+     *
+     * @return contents in the same order as formats
+     *
+     * @throws IOException if serialization failed
+     */
+    private static List<String> writeAsStrings(OpenAPI openApi, List<OpenApiOutputFormat> formats, int threads, VisitorContext context) throws IOException {
+        var canonical = isCanonicalEnabled(context);
+        if (formats.size() == 1) {
+            return List.of(formats.get(0).writer(canonical).writeValueAsString(openApi));
+        }
+        // map entries are already ordered in the token buffer
+        var formatsWriter = OpenApiFormatsWriter.of(openApi, Utils.getJsonMapper(), canonical);
+        var tasks = new ArrayList<Callable<String>>(formats.size());
+        for (var format : formats) {
+            tasks.add(() -> formatsWriter.writeAsString(format.writer()));
+        }
+        return ParallelUtils.invokeAll(tasks, threads);
+    }
+
+    /**
+     * Write OpenAPI files in all output formats. The first format is the main format, other files
+     * are written next to it with the same name and the format extension.
+     *
+     * @param openApiInfo OpenAPI document info
+     * @param formats output formats
+     * @param contents contents in the same order as formats
+     * @param context visitor context
+     *
+     * @return true if the main file was written
+     */
+    private boolean writeOpenApiFiles(OpenApiInfo openApiInfo, List<OpenApiOutputFormat> formats, List<String> contents, VisitorContext context) {
+        return ProcessingMetrics.measure(PHASE_WRITE, context, () -> {
+            var mainFormat = formats.get(0);
             Path specFile = openApiSpecFile(openApiInfo.getFilename(), context);
-            try (Writer writer = getFileWriter(specFile)) {
-                objectMapper.writeValue(writer, openApiInfo.getOpenApi());
-                if (Utils.isTestMode()) {
-                    Utils.setTestFileName(openApiInfo.getFilename());
-                    if (isYaml) {
+            if (!writeOpenApiFile(openApiInfo, openApiInfo.getFilename(), specFile, contents.get(0), mainFormat, true, context)) {
+                return false;
+            }
+            var baseFilename = stripExtension(openApiInfo.getFilename(), mainFormat.ext());
+            for (int i = 1; i < formats.size(); i++) {
+                var format = formats.get(i);
+                var fileName = baseFilename + format.ext();
+                Path file = specFile != null ? specFile.resolveSibling(stripExtension(specFile.getFileName().toString(), mainFormat.ext()) + format.ext()) : null;
+                writeOpenApiFile(openApiInfo, fileName, file, contents.get(i), format, false, context);
+            }
+            if (isSmileEnabled(context)) {
+                Path smileFile = specFile != null ? specFile.resolveSibling(stripExtension(specFile.getFileName().toString(), mainFormat.ext()) + EXT_SMILE) : null;
+                writeSmileFile(openApiInfo, baseFilename + EXT_SMILE, smileFile, context);
+            }
+            return true;
+        });
+    }
+
+    private void writeSmileFile(OpenApiInfo openApiInfo, String fileName, Path file, VisitorContext context) {
+        try {
+            byte[] content = OpenApiOutputFormat.canonical(Utils.getSmileMapper().writer(), isCanonicalEnabled(context)).writeValueAsBytes(openApiInfo.getOpenApi());
+            if (Utils.isTestMode()) {
+                Utils.addTestBinaryFileReference(fileName, content);
+                return;
+            }
+            if (file == null) {
+                return;
+            }
+            Files.write(file, content);
+        } catch (Exception e) {
+            warn("Unable to generate swagger" + EXT_SMILE + ": " + fileName + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
+            return;
+        }
+        info("Writing OpenAPI file to destination: " + file, context);
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        if (classesOutputPath != null) {
+            addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
+        }
+        writePrecompressed(file, context);
+    }
+
+    private static String stripExtension(String fileName, String ext) {
+        return fileName.endsWith(ext) ? fileName.substring(0, fileName.length() - ext.length()) : fileName;
+    }
+
+    private boolean writeOpenApiFile(OpenApiInfo openApiInfo, String fileName, Path specFile, String content, OpenApiOutputFormat format,
+                                     boolean isMain, VisitorContext context) {
+        try (Writer writer = getFileWriter(specFile)) {
+            writer.write(content);
+            if (Utils.isTestMode()) {
+                Utils.addTestFileReference(fileName, content);
+                if (isMain) {
+                    Utils.setTestFileName(fileName);
+                    if (format.yaml()) {
                         Utils.setTestYamlReference(writer.toString());
                     } else {
                         Utils.setTestJsonReference(writer.toString());
                     }
-                } else {
-                    info("Writing OpenAPI file to destination: " + specFile, context);
-                    var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                    if (classesOutputPath != null) {
-                        // add relative paths for the specFile, and its parent META-INF/swagger
-                        // so that micronaut-graal visitor knows about them
-                        addGeneratedResource(classesOutputPath.relativize(specFile).toString(), context);
-                        addGeneratedResource(classesOutputPath.relativize(specFile.getParent()).toString(), context);
-                    }
-                    openApiInfo.setSpecFilePath(specFile.getFileName().toString());
                 }
-                if (isAdocModuleInClassPath && isGlobalAdocEnabled && openApiInfo.isAdocEnabled()) {
-                    var adocProperties = getAdocProperties(openApiInfo, openApiInfos.size() == 1, context);
-                    AdocModule.convert(openApiInfo, adocProperties, context);
+            } else {
+                info("Writing OpenAPI file to destination: " + specFile, context);
+                var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+                if (classesOutputPath != null) {
+                    // add relative paths for the specFile, and its parent META-INF/swagger
+                    // so that micronaut-graal visitor knows about them
+                    addGeneratedResource(classesOutputPath.relativize(specFile).toString(), context);
+                    addGeneratedResource(classesOutputPath.relativize(specFile.getParent()).toString(), context);
+                }
+                writePrecompressed(specFile, content, context);
+                if (isMain) {
+                    openApiInfo.setSpecFilePath(specFile.getFileName().toString());
                 }
-            } catch (Exception e) {
-                warn("Unable to generate swagger" + (isYaml ? EXT_YML : EXT_JSON) + ": " + specFile + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
             }
+            return true;
+        } catch (Exception e) {
+            warn("Unable to generate swagger" + format.ext() + ": " + specFile + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
+            return false;
+        }
+    }
+
+    private static boolean isAdocModuleInClassPath() {
+        try {
+            Class.forName("io.micronaut.openapi.adoc.OpenApiToAdocConverter");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
         }
     }
 
@@ -349,6 +349,104 @@ public interface OpenApiConfigProperty {
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH = "micronaut.openapi.adoc.openapi.path";
+    /**
+     * Is this property true, post-processing, serialization and AsciiDoc rendering of OpenAPI documents
+     * for groups and versions will be executed in parallel. Enabled views (Swagger UI, ReDoc, RapiDoc
+     * and OpenAPI Explorer) will be rendered in parallel too.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_PARALLEL_ENABLED = "micronaut.openapi.parallel.enabled";
+    /**
+     * Maximum number of threads for parallel processing.
+     * <br>
+     * Default: number of available processors
+     */
+    String MICRONAUT_OPENAPI_PARALLEL_THREADS = "micronaut.openapi.parallel.threads";
+    /**
+     * Is this property true, OpenAPI fragments (paths, operations and schemas) generated from controllers
+     * and endpoints will be stored in the build-local cache. Classes without changes will not be processed again
+     * in the next compilation, fragments from the cache will be used instead.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_INCREMENTAL_ENABLED = "micronaut.openapi.incremental.enabled";
+    /**
+     * Directory for the incremental generation cache.
+     * <br>
+     * Default: directory {@code openapi-cache} next to the classes output directory
+     */
+    String MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR = "micronaut.openapi.incremental.cache.dir";
+    /**
+     * Is this property true, wall time, number of calls and allocated bytes will be collected for all phases
+     * of OpenAPI generation and written to the {@code openapi-metrics.json} file next to the generated OpenAPI file.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_METRICS_ENABLED = "micronaut.openapi.metrics.enabled";
+    /**
+     * Comma-separated list of output formats of OpenAPI files: {@code yaml}, {@code json} (pretty-printed)
+     * and {@code json-min} (minified, with {@code .min.json} extension). The first format is the main format,
+     * it's used by views and AsciiDoc converter. All formats are written from the same in-memory model.
+     * <br>
+     * Default: one format, selected by {@code micronaut.openapi.json.format} property
+     */
+    String MICRONAUT_OPENAPI_FORMATS = "micronaut.openapi.formats";
+    /**
+     * Is this property true, gzip variant ({@code .gz}) and strong ETag ({@code .etag}, quoted SHA-256 of the content)
+     * will be written for every generated OpenAPI file and view resource, so they can be served without
+     * compression at runtime.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_PRECOMPRESS_ENABLED = "micronaut.openapi.precompress.enabled";
+    /**
+     * Is this property true, OpenAPI document will be also written in binary Smile format
+     * ({@code .smile} file next to the main OpenAPI file). It can be loaded at runtime much faster
+     * than YAML or JSON with {@code OpenApiUtils.readSmile} method.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_SMILE_ENABLED = "micronaut.openapi.smile.enabled";
+    /**
+     * Is this property true, additional OpenAPI files ({@code micronaut.openapi.additional.files}) will be parsed
+     * in parallel and merged in batches, in the order of file names. Every file is still parsed into a whole
+     * OpenAPI object, so the memory usage is not reduced. If incremental generation is enabled, parsed files
+     * are also cached, and unchanged files will not be parsed again in the next compilation.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_ADDITIONAL_FILES_PARALLEL = "micronaut.openapi.additional.files.parallel";
+    /**
+     * Is this property true, serializers and deserializers of the swagger model classes will be resolved
+     * in the background thread, when annotation processing starts, so the first serialization
+     * of OpenAPI document doesn't pay for their construction.
+     * <br>
+     * Default: true
+     */
+    String MICRONAUT_OPENAPI_MAPPERS_PRIMING_ENABLED = "micronaut.openapi.mappers.priming.enabled";
+    /**
+     * Is this property true, entries of all maps in the OpenAPI document (paths, schemas, properties, responses,
+     * extensions, etc.) will be written sorted by keys, so the generated files are byte-identical regardless
+     * of the order, in which elements were processed.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_CANONICAL_ENABLED = "micronaut.openapi.canonical.enabled";
+    /**
+     * Is this property true, view resources (JS and CSS bundles) will be stored once in the shared asset store,
+     * keyed by micronaut-openapi version and content hash, and hard-linked to the views directory of every
+     * module. If hard links are not supported, resources will be copied.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_ENABLED = "micronaut.openapi.views.asset.store.enabled";
+    /**
+     * Directory of the shared view asset store.
+     * <br>
+     * Default: {@code caches/micronaut-openapi/views} in the Gradle user home directory
+     */
+    String MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_DIR = "micronaut.openapi.views.asset.store.dir";
     /**
      * Default openapi config file.
      */
@@ -386,6 +484,19 @@ public interface OpenApiConfigProperty {
         MICRONAUT_OPENAPI_SCHEMA_EXTRA_ENABLED,
         MICRONAUT_OPENAPI_SCHEMA_NAME_SEPARATOR_EMPTY,
         MICRONAUT_OPENAPI_SCHEMA_NAME_SEPARATOR_GENERIC,
-        MICRONAUT_OPENAPI_EXPAND_PREFIX
+        MICRONAUT_OPENAPI_EXPAND_PREFIX,
+        MICRONAUT_OPENAPI_PARALLEL_ENABLED,
+        MICRONAUT_OPENAPI_PARALLEL_THREADS,
+        MICRONAUT_OPENAPI_INCREMENTAL_ENABLED,
+        MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR,
+        MICRONAUT_OPENAPI_METRICS_ENABLED,
+        MICRONAUT_OPENAPI_FORMATS,
+        MICRONAUT_OPENAPI_PRECOMPRESS_ENABLED,
+        MICRONAUT_OPENAPI_SMILE_ENABLED,
+        MICRONAUT_OPENAPI_ADDITIONAL_FILES_PARALLEL,
+        MICRONAUT_OPENAPI_MAPPERS_PRIMING_ENABLED,
+        MICRONAUT_OPENAPI_CANONICAL_ENABLED,
+        MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_ENABLED,
+        MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_DIR
     );
 }
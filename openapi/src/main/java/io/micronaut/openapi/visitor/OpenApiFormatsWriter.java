@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Writer of OpenAPI documents in several output formats. The model is serialized only once into
+ * a token buffer, and then the buffered tokens are copied into the generator of every required format.
+ * <p>
+ * Filling the buffer costs the same as a direct serialization, so the writer is used only when the document
+ * is written in more than one format. A single format is serialized directly by its object writer.
+ * <p>
+ * In canonical mode map entries are ordered by keys while the token buffer is filled, so every output
+ * format gets the same stable order and the model itself is not changed.
+ *
+ * @since 6.14.0
+ */
+final class OpenApiFormatsWriter {
+
+    private final TokenBuffer tokens;
+
+    private OpenApiFormatsWriter(TokenBuffer tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Serialize OpenAPI object to the token buffer.
+     *
+     * @param openApi OpenAPI object
+     * @param mapper object mapper with OpenAPI serialization configuration (3.0 or 3.1)
+     * @param canonical write map entries sorted by keys
+     *
+     * @return formats writer
+     *
+     * @throws IOException if serialization failed
+     */
+    static OpenApiFormatsWriter of(OpenAPI openApi, ObjectMapper mapper, boolean canonical) throws IOException {
+        var tokens = new TokenBuffer(mapper, false);
+        OpenApiOutputFormat.canonical(mapper.writer(), canonical).writeValue(tokens, openApi);
+        return new OpenApiFormatsWriter(tokens);
+    }
+
+    /**
+     * Write document in the format of the object writer. Generator is configured by the object writer
+     * in the same way as for the direct serialization, so the output is the same.
+     *
+     * @param objectWriter target object writer, JSON or YAML, for the same OpenAPI version
+     *
+     * @return document content
+     *
+     * @throws IOException if writing failed
+     */
+    String writeAsString(ObjectWriter objectWriter) throws IOException {
+        var writer = new StringWriter();
+        try (JsonGenerator generator = objectWriter.createGenerator(writer);
+             var parser = tokens.asParser()) {
+            if (parser.nextToken() != null) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        return writer.toString();
+    }
+}
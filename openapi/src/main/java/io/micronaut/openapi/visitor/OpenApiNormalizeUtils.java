@@ -17,6 +17,7 @@ package io.micronaut.openapi.visitor;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.visitor.VisitorContext;
@@ -32,6 +33,8 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.tags.Tag;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -493,14 +496,13 @@ public final class OpenApiNormalizeUtils {
      * @param openApi openAPI object
      */
     public static void findAndRemoveDuplicates(OpenAPI openApi) {
-        openApi.setTags(Utils.findAndRemoveDuplicates(openApi.getTags(), (el1, el2) -> el1.getName() != null && el1.getName().equals(el2.getName())));
-        openApi.setServers(Utils.findAndRemoveDuplicates(openApi.getServers(), (el1, el2) -> el1.getUrl() != null && el1.getUrl().equals(el2.getUrl())));
-        openApi.setSecurity(Utils.findAndRemoveDuplicates(openApi.getSecurity(), (el1, el2) -> el1 != null && el1.equals(el2)));
+        openApi.setTags(Utils.findAndRemoveDuplicates(openApi.getTags(), Tag::getName));
+        openApi.setServers(Utils.findAndRemoveDuplicates(openApi.getServers(), Server::getUrl));
+        openApi.setSecurity(Utils.findAndRemoveDuplicates(openApi.getSecurity(), Function.identity()));
         if (CollectionUtils.isNotEmpty(openApi.getPaths())) {
             for (var path : openApi.getPaths().values()) {
-                path.setServers(Utils.findAndRemoveDuplicates(path.getServers(), (el1, el2) -> el1.getUrl() != null && el1.getUrl().equals(el2.getUrl())));
-                path.setParameters(Utils.findAndRemoveDuplicates(path.getParameters(), (el1, el2) -> el1.getName() != null && el1.getName().equals(el2.getName())
-                    && el1.getIn() != null && el1.getIn().equals(el2.getIn())));
+                path.setServers(Utils.findAndRemoveDuplicates(path.getServers(), Server::getUrl));
+                path.setParameters(Utils.findAndRemoveDuplicates(path.getParameters(), OpenApiNormalizeUtils::parameterKey));
                 findAndRemoveDuplicates(path.getGet());
                 findAndRemoveDuplicates(path.getPut());
                 findAndRemoveDuplicates(path.getPost());
@@ -518,29 +520,21 @@ public final class OpenApiNormalizeUtils {
                 }
             }
         }
-        if (openApi.getComponents() != null) {
-            if (CollectionUtils.isNotEmpty(openApi.getComponents().getSchemas())) {
-                for (var schema : openApi.getComponents().getSchemas().values()) {
-                    findAndRemoveDuplicates(schema);
-                }
-            }
-        }
     }
 
     public static void findAndRemoveDuplicates(Operation operation) {
         if (operation == null) {
             return;
         }
-        operation.setTags(Utils.findAndRemoveDuplicates(operation.getTags(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        operation.setServers(Utils.findAndRemoveDuplicates(operation.getServers(), (el1, el2) -> el1.getUrl() != null && el1.getUrl().equals(el2.getUrl())));
-        operation.setSecurity(Utils.findAndRemoveDuplicates(operation.getSecurity(), (el1, el2) -> el1 != null && el1.equals(el2)));
+        operation.setTags(Utils.findAndRemoveDuplicates(operation.getTags(), Function.identity()));
+        operation.setServers(Utils.findAndRemoveDuplicates(operation.getServers(), Server::getUrl));
+        operation.setSecurity(Utils.findAndRemoveDuplicates(operation.getSecurity(), Function.identity()));
         if (CollectionUtils.isNotEmpty(operation.getParameters())) {
             for (var param : operation.getParameters()) {
                 findAndRemoveDuplicates(param.getContent());
                 findAndRemoveDuplicates(param.getSchema());
             }
-            operation.setParameters(Utils.findAndRemoveDuplicates(operation.getParameters(), (el1, el2) -> el1.getName() != null && el1.getName().equals(el2.getName())
-                && el1.getIn() != null && el1.getIn().equals(el2.getIn())));
+            operation.setParameters(Utils.findAndRemoveDuplicates(operation.getParameters(), OpenApiNormalizeUtils::parameterKey));
         }
 
         if (operation.getRequestBody() != null) {
@@ -566,11 +560,22 @@ public final class OpenApiNormalizeUtils {
         if (schema == null) {
             return;
         }
-        schema.setRequired(Utils.findAndRemoveDuplicates(schema.getRequired(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        schema.setPrefixItems(Utils.findAndRemoveDuplicates(schema.getPrefixItems(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        schema.setAllOf(Utils.findAndRemoveDuplicates(schema.getAllOf(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        schema.setAnyOf(Utils.findAndRemoveDuplicates(schema.getAnyOf(), (el1, el2) -> el1 != null && el1.equals(el2)));
-        schema.setOneOf(Utils.findAndRemoveDuplicates(schema.getOneOf(), (el1, el2) -> el1 != null && el1.equals(el2)));
+        schema.setRequired(Utils.findAndRemoveDuplicates(schema.getRequired(), Function.identity()));
+        schema.setPrefixItems(Utils.findAndRemoveDuplicates(schema.getPrefixItems(), Function.identity()));
+        schema.setAllOf(Utils.findAndRemoveDuplicates(schema.getAllOf(), Function.identity()));
+        schema.setAnyOf(Utils.findAndRemoveDuplicates(schema.getAnyOf(), Function.identity()));
+        schema.setOneOf(Utils.findAndRemoveDuplicates(schema.getOneOf(), Function.identity()));
+    }
+
+    /**
+     * Parameters are the same, if they have same name and location.
+     */
+    @Nullable
+    private static Pair<String, String> parameterKey(Parameter parameter) {
+        if (parameter.getName() == null || parameter.getIn() == null) {
+            return null;
+        }
+        return Pair.of(parameter.getName(), parameter.getIn());
     }
 
     private static void unwrapAllOff(Schema<?> schema) {
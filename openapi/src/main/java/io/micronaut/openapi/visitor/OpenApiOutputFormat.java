@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Locale;
+
+import static io.micronaut.openapi.visitor.FileUtils.EXT_JSON;
+import static io.micronaut.openapi.visitor.FileUtils.EXT_YML;
+
+/**
+ * Output format of the OpenAPI file.
+ *
+ * @param name format name
+ * @param ext file extension
+ * @param yaml is YAML format
+ * @param pretty is output pretty-printed (only for JSON)
+ *
+ * @since 6.14.0
+ */
+@Internal
+public record OpenApiOutputFormat(
+    String name,
+    String ext,
+    boolean yaml,
+    boolean pretty
+) {
+
+    /**
+     * YAML format.
+     */
+    public static final OpenApiOutputFormat YAML = new OpenApiOutputFormat("yaml", EXT_YML, true, false);
+    /**
+     * Pretty-printed JSON format.
+     */
+    public static final OpenApiOutputFormat JSON = new OpenApiOutputFormat("json", EXT_JSON, false, true);
+    /**
+     * Minified JSON format.
+     */
+    public static final OpenApiOutputFormat JSON_MIN = new OpenApiOutputFormat("json-min", ".min" + EXT_JSON, false, false);
+    /**
+     * Minified JSON format with {@code .json} extension. Used, when only {@code micronaut.openapi.json.format} is set.
+     */
+    public static final OpenApiOutputFormat JSON_COMPACT = new OpenApiOutputFormat("json", EXT_JSON, false, false);
+
+    /**
+     * Find format by name.
+     *
+     * @param name format name
+     *
+     * @return format or null if format is unknown
+     */
+    @Nullable
+    public static OpenApiOutputFormat of(String name) {
+        return switch (name.strip().toLowerCase(Locale.US)) {
+            case "yaml", "yml" -> YAML;
+            case "json" -> JSON;
+            case "json-min", "min-json" -> JSON_MIN;
+            default -> null;
+        };
+    }
+
+    /**
+     * Configure object writer for canonical output: entries of all maps, including extensions,
+     * are written sorted by keys. Bean properties keep their declared order.
+     *
+     * @param objectWriter object writer
+     * @param canonical is canonical output enabled
+     *
+     * @return configured object writer
+     */
+    public static ObjectWriter canonical(ObjectWriter objectWriter, boolean canonical) {
+        return canonical ? objectWriter.with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS) : objectWriter;
+    }
+
+    /**
+     * @return object writer for this format
+     */
+    public ObjectWriter writer() {
+        if (yaml) {
+            return Utils.getYamlMapper().writer();
+        }
+        return pretty ? Utils.getJsonMapper().writerWithDefaultPrettyPrinter() : Utils.getJsonMapper().writer();
+    }
+
+    /**
+     * @param canonical write map entries sorted by keys
+     *
+     * @return object writer for this format
+     */
+    public ObjectWriter writer(boolean canonical) {
+        return canonical(writer(), canonical);
+    }
+}
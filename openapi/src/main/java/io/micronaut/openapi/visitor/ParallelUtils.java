@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.visitor.VisitorContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLEL_THREADS;
+
+/**
+ * Parallel processing utilities methods.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class ParallelUtils {
+
+    private static final String THREAD_NAME_PREFIX = "micronaut-openapi-";
+
+    private ParallelUtils() {
+    }
+
+    /**
+     * Get maximum number of threads for parallel processing.
+     *
+     * @param context visitor context
+     *
+     * @return number of threads
+     */
+    public static int getParallelThreads(VisitorContext context) {
+        var value = getConfigProperty(MICRONAUT_OPENAPI_PARALLEL_THREADS, context);
+        if (value != null && !value.isBlank()) {
+            try {
+                var threads = Integer.parseInt(value.strip());
+                if (threads > 0) {
+                    return threads;
+                }
+            } catch (NumberFormatException e) {
+                // use default value
+            }
+            warn("Invalid value of " + MICRONAUT_OPENAPI_PARALLEL_THREADS + " property: " + value + ". Number of available processors will be used.", context);
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Execute tasks on the bounded thread pool and wait for all results.
+     * If there is only one task or one thread, tasks are executed in the current thread.
+     *
+     * @param tasks tasks
+     * @param threads maximum number of threads
+     * @param <T> result type
+     *
+     * @return task results in the same order as tasks
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks, int threads) {
+        var results = new ArrayList<T>(tasks.size());
+        if (tasks.size() <= 1 || threads <= 1) {
+            for (var task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+        ExecutorService executor = newExecutor(Math.min(threads, tasks.size()));
+        try {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for OpenAPI processing tasks", e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        var counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_POSTFIX;
+import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_PREFIX;
+
+/**
+ * Expander of {@code ${key}} placeholders. Placeholders are found in one scan of the string
+ * and replaced by values from the map, so the cost doesn't depend on the number of properties.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class PlaceholderExpander {
+
+    private final Map<String, String> values;
+
+    /**
+     * Create expander.
+     *
+     * @param values values by placeholder keys
+     */
+    public PlaceholderExpander(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Replace all known placeholders. Placeholders from the values are expanded too.
+     *
+     * @param s string with placeholders
+     *
+     * @return string with expanded placeholders
+     */
+    public String expand(@Nullable String s) {
+        if (values.isEmpty()) {
+            return s;
+        }
+        // values can contain other placeholders, number of passes is limited to avoid infinite loops
+        for (int i = 0; i < values.size(); i++) {
+            var expanded = expand(s, values::get);
+            if (expanded == s) {
+                break;
+            }
+            s = expanded;
+        }
+        return s;
+    }
+
+    /**
+     * Replace all placeholders, which are resolved by resolver, in one pass.
+     *
+     * @param s string with placeholders
+     * @param resolver placeholder values resolver, returns null for unknown placeholders
+     *
+     * @return string with expanded placeholders or the same instance, if nothing was replaced
+     */
+    public static String expand(@Nullable String s, Function<String, String> resolver) {
+        if (s == null) {
+            return null;
+        }
+        int start = s.indexOf(PLACEHOLDER_PREFIX);
+        if (start < 0) {
+            return s;
+        }
+        StringBuilder sb = null;
+        int pos = 0;
+        while (start >= 0) {
+            int end = s.indexOf(PLACEHOLDER_POSTFIX, start + PLACEHOLDER_PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            var value = resolver.apply(s.substring(start + PLACEHOLDER_PREFIX.length(), end));
+            if (value == null) {
+                start = s.indexOf(PLACEHOLDER_PREFIX, start + PLACEHOLDER_PREFIX.length());
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(s.length() + value.length());
+            }
+            sb.append(s, pos, start).append(value);
+            pos = end + PLACEHOLDER_POSTFIX.length();
+            start = s.indexOf(PLACEHOLDER_PREFIX, pos);
+        }
+        if (sb == null) {
+            return s;
+        }
+        return sb.append(s, pos, s.length()).toString();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiStringPool;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static io.micronaut.openapi.visitor.ConfigUtils.isMetricsEnabled;
+import static io.micronaut.openapi.visitor.ContextUtils.info;
+import static io.micronaut.openapi.visitor.ContextUtils.warn;
+import static io.micronaut.openapi.visitor.FileUtils.getDefaultFilePath;
+import static io.micronaut.openapi.visitor.FileUtils.userDefinedSpecFile;
+
+/**
+ * Opt-in instrumentation of OpenAPI generation. Collects wall time, number of calls and allocated bytes
+ * for processing phases and writes them as JSON report next to the generated OpenAPI file. The report
+ * also contains the number of duplicate strings replaced by {@link OpenApiStringPool} and the estimated saved heap.
+ * <p>
+ * Nested calls of the same phase in the same thread (for example, recursive schema resolution) are counted,
+ * but their time and allocations are already included in the outer call.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class ProcessingMetrics {
+
+    public static final String PHASE_VISIT_CLASS = "visitClass";
+    public static final String PHASE_VISIT_METHOD = "visitMethod";
+    public static final String PHASE_RESOLVE_SCHEMA = "resolveSchema";
+    public static final String PHASE_FINISH = "finish";
+    public static final String PHASE_PROCESS_ENDPOINTS = "processEndpoints";
+    public static final String PHASE_MERGE_ENDPOINT_INFOS = "mergeEndpointInfos";
+    public static final String PHASE_DIVIDE_BY_GROUPS = "divideByGroupsAndVersions";
+    public static final String PHASE_POST_PROCESS = "postProcess";
+    public static final String PHASE_NORMALIZE = "normalize";
+    public static final String PHASE_REMOVE_UNUSED_SCHEMAS = "removeUnusedSchemas";
+    public static final String PHASE_RESOLVE_PLACEHOLDERS = "resolvePlaceholders";
+    public static final String PHASE_SERIALIZE = "serialize";
+    public static final String PHASE_WRITE = "write";
+    public static final String PHASE_ADOC = "adoc";
+    public static final String PHASE_VIEWS = "views";
+
+    public static final String REPORT_FILENAME = "openapi-metrics.json";
+
+    private static final ThreadLocal<Map<String, Integer>> ACTIVE_PHASES = ThreadLocal.withInitial(HashMap::new);
+
+    private static Boolean enabled;
+    private static Map<String, PhaseStats> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private ProcessingMetrics() {
+    }
+
+    /**
+     * Clean metrics.
+     */
+    public static void clean() {
+        enabled = null;
+        phases = Collections.synchronizedMap(new LinkedHashMap<>());
+        ACTIVE_PHASES.remove();
+    }
+
+    /**
+     * @param context visitor context
+     *
+     * @return true if instrumentation is enabled
+     */
+    public static boolean isEnabled(VisitorContext context) {
+        var result = enabled;
+        if (result == null) {
+            result = isMetricsEnabled(context);
+            enabled = result;
+        }
+        return result;
+    }
+
+    /**
+     * Start measuring of the phase.
+     *
+     * @param phase phase name
+     * @param context visitor context
+     *
+     * @return measurement, which must be passed to {@link #stop(Measurement)}, or null if instrumentation is disabled
+     */
+    @Nullable
+    public static Measurement start(String phase, VisitorContext context) {
+        if (!isEnabled(context)) {
+            return null;
+        }
+        var nested = ACTIVE_PHASES.get().merge(phase, 1, Integer::sum) > 1;
+        return new Measurement(phase, nested, System.nanoTime(), nested ? 0 : allocatedBytes());
+    }
+
+    /**
+     * Stop measuring of the phase.
+     *
+     * @param measurement measurement or null, if instrumentation is disabled
+     */
+    public static void stop(@Nullable Measurement measurement) {
+        if (measurement == null) {
+            return;
+        }
+        var stats = phases.computeIfAbsent(measurement.phase, k -> new PhaseStats());
+        stats.calls.incrementAndGet();
+        ACTIVE_PHASES.get().computeIfPresent(measurement.phase, (k, v) -> v > 1 ? v - 1 : null);
+        if (measurement.nested) {
+            return;
+        }
+        stats.wallTimeNanos.addAndGet(System.nanoTime() - measurement.startNanos);
+        var allocated = allocatedBytes();
+        if (allocated >= 0 && measurement.startAllocatedBytes >= 0) {
+            stats.allocatedBytes.addAndGet(allocated - measurement.startAllocatedBytes);
+        }
+    }
+
+    /**
+     * Execute action and measure it as the phase.
+     *
+     * @param phase phase name
+     * @param context visitor context
+     * @param action action
+     * @param <T> result type
+     *
+     * @return action result
+     */
+    public static <T> T measure(String phase, VisitorContext context, Supplier<T> action) {
+        var measurement = start(phase, context);
+        try {
+            return action.get();
+        } finally {
+            stop(measurement);
+        }
+    }
+
+    /**
+     * Execute action and measure it as the phase.
+     *
+     * @param phase phase name
+     * @param context visitor context
+     * @param action action
+     */
+    public static void run(String phase, VisitorContext context, Runnable action) {
+        var measurement = start(phase, context);
+        try {
+            action.run();
+        } finally {
+            stop(measurement);
+        }
+    }
+
+    /**
+     * @return JSON report with collected metrics
+     */
+    public static ObjectNode toJson() {
+        var root = Utils.getJsonMapper().createObjectNode();
+        var phasesNode = root.putObject("phases");
+        synchronized (phases) {
+            for (var entry : phases.entrySet()) {
+                var stats = entry.getValue();
+                phasesNode.putObject(entry.getKey())
+                    .put("calls", stats.calls.get())
+                    .put("wallTimeMillis", stats.wallTimeNanos.get() / 1_000_000.0)
+                    .put("allocatedBytes", stats.allocatedBytes.get());
+            }
+        }
+        root.putObject("stringPool")
+            .put("duplicates", OpenApiStringPool.getDuplicates())
+            .put("savedBytes", OpenApiStringPool.getSavedBytes());
+        return root;
+    }
+
+    /**
+     * Write JSON report next to the generated OpenAPI file.
+     *
+     * @param context visitor context
+     */
+    public static void writeReport(VisitorContext context) {
+        if (!isEnabled(context) || Utils.isTestMode()) {
+            return;
+        }
+        Path reportFile;
+        var specFile = userDefinedSpecFile(context);
+        if (specFile != null) {
+            reportFile = specFile.toAbsolutePath().getParent().resolve(REPORT_FILENAME);
+        } else {
+            reportFile = getDefaultFilePath(REPORT_FILENAME, context);
+        }
+        if (reportFile == null) {
+            return;
+        }
+        try {
+            Files.writeString(reportFile, Utils.getJsonMapper().writerWithDefaultPrettyPrinter().writeValueAsString(toJson()));
+            info("Writing OpenAPI processing metrics to destination: " + reportFile, context);
+        } catch (IOException e) {
+            warn("Unable to write OpenAPI processing metrics: " + reportFile + " - " + e.getMessage(), context);
+        }
+    }
+
+    private static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean
+            && threadMXBean.isThreadAllocatedMemorySupported()
+            && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Started measurement of the phase.
+     *
+     * @param phase phase name
+     * @param nested is this call nested in another call of the same phase
+     * @param startNanos start time
+     * @param startAllocatedBytes allocated bytes by current thread at start
+     */
+    public record Measurement(
+        String phase,
+        boolean nested,
+        long startNanos,
+        long startAllocatedBytes
+    ) {
+    }
+
+    private static final class PhaseStats {
+
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong wallTimeNanos = new AtomicLong();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+    }
+}
@@ -123,7 +123,7 @@ import java.util.function.Function;
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getCustomSchema;
-import static io.micronaut.openapi.visitor.ConfigUtils.getExpandableProperties;
+import static io.micronaut.openapi.visitor.ConfigUtils.getExpandablePropertiesExpander;
 import static io.micronaut.openapi.visitor.ConfigUtils.getGenericSeparator;
 import static io.micronaut.openapi.visitor.ConfigUtils.getInnerClassSeparator;
 import static io.micronaut.openapi.visitor.ConfigUtils.getSchemaDecoration;
@@ -229,6 +229,8 @@ import static io.micronaut.openapi.visitor.Utils.resolveOpenApi;
 @Internal
 public final class SchemaDefinitionUtils {
 
+    private static final int MAX_TYPE_ARGS_DEPTH = 8;
+
     /**
      * Stores the current in progress type.
      */
@@ -245,6 +247,12 @@ public final class SchemaDefinitionUtils {
      * {@link PropertyNamingStrategy} instances cache.
      */
     private static Map<String, PropertyNamingStrategy> propertyNamingStrategyInstances = new HashMap<>();
+    /**
+     * Resolved schema names by type, type arguments, JSON view class and media types.
+     */
+    private static Map<String, String> resolvedSchemaNames = new HashMap<>();
+    private static int resolvedSchemaHits;
+    private static int resolvedSchemaMisses;
 
     private SchemaDefinitionUtils() {
     }
@@ -257,6 +265,17 @@ public final class SchemaDefinitionUtils {
         schemaNameToClassNameMap = new HashMap<>();
         shemaNameSuffixCounterMap = new HashMap<>();
         propertyNamingStrategyInstances = new HashMap<>();
+        resolvedSchemaNames = new HashMap<>();
+        resolvedSchemaHits = 0;
+        resolvedSchemaMisses = 0;
+    }
+
+    public static int getResolvedSchemaHits() {
+        return resolvedSchemaHits;
+    }
+
+    public static int getResolvedSchemaMisses() {
+        return resolvedSchemaMisses;
     }
 
     /**
@@ -343,12 +362,22 @@ public final class SchemaDefinitionUtils {
                 schemaAnnOnField = schemaValue != null && definingElement instanceof FieldElement;
             }
         }
+        // schema reference depends on the defining element only if it has Schema annotation
+        var cacheKey = schemaValue == null ? resolvedSchemaCacheKey(definingElement, type, typeArgs, mediaTypes, jsonViewClass) : null;
         if (schemaValue == null) {
             schemaValue = type.getDeclaredAnnotation(io.swagger.v3.oas.annotations.media.Schema.class);
         }
 
         Schema schema;
         Map<String, Schema> schemas = SchemaUtils.resolveSchemas(openAPI);
+        if (cacheKey != null) {
+            var schemaName = resolvedSchemaNames.get(cacheKey);
+            if (schemaName != null && schemas.containsKey(schemaName)) {
+                resolvedSchemaHits++;
+                return setSpecVersion(new Schema<>().$ref(SchemaUtils.schemaRef(schemaName)));
+            }
+            resolvedSchemaMisses++;
+        }
         if (schemaValue == null) {
             final boolean isBasicType = ElementUtils.isJavaBasicType(type.getName());
             final PrimitiveType primitiveType;
@@ -454,6 +483,9 @@ public final class SchemaDefinitionUtils {
             setSchemaDescription(type, schema);
             var schemaRef = setSpecVersion(new Schema<>());
             schemaRef.set$ref(SchemaUtils.schemaRef(schema.getName()));
+            if (cacheKey != null && schema.getName() != null) {
+                resolvedSchemaNames.put(cacheKey, schema.getName());
+            }
             if (definingElement instanceof ClassElement classEl && classEl.isIterable()) {
                 schemaRef.setDescription(schema.getDescription());
             }
@@ -462,6 +494,66 @@ public final class SchemaDefinitionUtils {
         return null;
     }
 
+    /**
+     * Key of the resolved schemas cache or null, if schema reference depends on the defining element.
+     */
+    @Nullable
+    private static String resolvedSchemaCacheKey(@Nullable Element definingElement, ClassElement type, Map<String, ClassElement> typeArgs,
+                                                 List<MediaType> mediaTypes, @Nullable ClassElement jsonViewClass) {
+        if (ElementUtils.isJavaBasicType(type.getName())) {
+            return null;
+        }
+        if (definingElement != null) {
+            if (definingElement instanceof ClassElement classEl && classEl.isIterable()) {
+                return null;
+            }
+            var metaAnnName = definingElement.getAnnotationNameByStereotype(io.swagger.v3.oas.annotations.media.Schema.class).orElse(null);
+            if (metaAnnName != null && !io.swagger.v3.oas.annotations.media.Schema.class.getName().equals(metaAnnName)) {
+                return null;
+            }
+        }
+        var key = new StringBuilder(type.getName());
+        if (!appendTypeArgs(key, typeArgs, 0)) {
+            return null;
+        }
+        key.append('#');
+        if (jsonViewClass != null) {
+            key.append(jsonViewClass.getName());
+        }
+        key.append('#');
+        if (mediaTypes != null) {
+            for (var mediaType : mediaTypes) {
+                key.append(mediaType).append(',');
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean appendTypeArgs(StringBuilder key, @Nullable Map<String, ClassElement> typeArgs, int depth) {
+        if (CollectionUtils.isEmpty(typeArgs)) {
+            return true;
+        }
+        key.append('<');
+        for (var entry : typeArgs.entrySet()) {
+            var typeArg = entry.getValue();
+            // annotations of java.lang type arguments are part of the schema name
+            if (ClassUtils.isJavaLangType(typeArg.getName()) && CollectionUtils.isNotEmpty(typeArg.getAnnotationNames())) {
+                return false;
+            }
+            key.append(entry.getKey()).append('=').append(typeArg.getName());
+            for (int i = 0; i < typeArg.getArrayDimensions(); i++) {
+                key.append("[]");
+            }
+            // recursive generic bounds like Enum<E extends Enum<E>> must not be expanded infinitely
+            if (depth < MAX_TYPE_ARGS_DEPTH && !appendTypeArgs(key, typeArg.getTypeArguments(), depth + 1)) {
+                return false;
+            }
+            key.append(',');
+        }
+        key.append('>');
+        return true;
+    }
+
     public static String computeDefaultSchemaName(String defaultSchemaName, Element definingElement, Element type, Map<String, ClassElement> typeArgs, VisitorContext context,
                                                   @Nullable ClassElement jsonViewClass) {
 
@@ -627,6 +719,17 @@ public final class SchemaDefinitionUtils {
     public static Schema<?> resolveSchema(OpenAPI openApi, @Nullable Element definingElement, @Nullable ClassElement type, VisitorContext context,
                                           List<MediaType> mediaTypes, @Nullable ClassElement jsonViewClass,
                                           JavadocDescription fieldJavadoc, JavadocDescription classJavadoc) {
+        var measurement = ProcessingMetrics.start(ProcessingMetrics.PHASE_RESOLVE_SCHEMA, context);
+        try {
+            return doResolveSchema(openApi, definingElement, type, context, mediaTypes, jsonViewClass, fieldJavadoc, classJavadoc);
+        } finally {
+            ProcessingMetrics.stop(measurement);
+        }
+    }
+
+    private static Schema<?> doResolveSchema(OpenAPI openApi, @Nullable Element definingElement, @Nullable ClassElement type, VisitorContext context,
+                                             List<MediaType> mediaTypes, @Nullable ClassElement jsonViewClass,
+                                             JavadocDescription fieldJavadoc, JavadocDescription classJavadoc) {
 
         AnnotationValue<io.swagger.v3.oas.annotations.media.Schema> schemaAnnotationValue = null;
         if (definingElement != null) {
@@ -2621,7 +2724,8 @@ public final class SchemaDefinitionUtils {
         }
 
         // need to set placeholders to set correct values and types to example field
-        schemaJson = resolvePlaceholders(schemaJson, s -> expandProperties(s, getExpandableProperties(context), context));
+        var expander = getExpandablePropertiesExpander(context);
+        schemaJson = resolvePlaceholders(schemaJson, s -> expandProperties(s, expander, context));
         try {
             schemaToBind = Utils.getJsonMapper().readerForUpdating(schemaToBind).readValue(schemaJson);
         } catch (IOException e) {
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.CollectionUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
+
+/**
+ * Graph of references to component schemas. Built by a single walk over the {@link OpenAPI} model:
+ * all references found outside {@code components.schemas} are roots, references found inside
+ * a component schema are edges from this schema.
+ *
+ * @since 6.14.0
+ */
+@Internal
+public final class SchemaRefGraph {
+
+    /**
+     * Schema names, referenced from paths, webhooks, callbacks and non-schema components.
+     */
+    private final Set<String> roots = new HashSet<>();
+    /**
+     * Schema names, referenced from component schema, by component schema name.
+     */
+    private final Map<String, Set<String>> edges = new HashMap<>();
+    /**
+     * Already visited model objects for current sink. Protects from cycles in the object graph.
+     */
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Set<String> sink = roots;
+
+    private SchemaRefGraph() {
+    }
+
+    /**
+     * Build references graph for openAPI object.
+     *
+     * @param openApi openAPI object
+     *
+     * @return references graph
+     */
+    public static SchemaRefGraph build(OpenAPI openApi) {
+        var graph = new SchemaRefGraph();
+        if (CollectionUtils.isNotEmpty(openApi.getPaths())) {
+            graph.collectFromObject(openApi.getPaths().getExtensions());
+            for (var pathItem : openApi.getPaths().values()) {
+                graph.collectFromPathItem(pathItem);
+            }
+        }
+        if (CollectionUtils.isNotEmpty(openApi.getWebhooks())) {
+            for (var pathItem : openApi.getWebhooks().values()) {
+                graph.collectFromPathItem(pathItem);
+            }
+        }
+        graph.collectFromObject(openApi.getExtensions());
+
+        Components components = openApi.getComponents();
+        if (components == null) {
+            return graph;
+        }
+        graph.collectFromComponents(components);
+        if (CollectionUtils.isNotEmpty(components.getSchemas())) {
+            for (var entry : components.getSchemas().entrySet()) {
+                graph.sink = graph.edges.computeIfAbsent(entry.getKey(), k -> new HashSet<>());
+                graph.visited.clear();
+                graph.collectFromSchema(entry.getValue());
+            }
+            graph.sink = graph.roots;
+            graph.visited.clear();
+        }
+        return graph;
+    }
+
+    /**
+     * Mark all schema names, reachable from roots and from additional schema names.
+     *
+     * @param additionalRoots schema names, which must be treated as used
+     *
+     * @return reachable schema names
+     */
+    public Set<String> findReachable(Collection<String> additionalRoots) {
+        var reachable = new HashSet<String>();
+        var queue = new ArrayDeque<String>(roots);
+        if (additionalRoots != null) {
+            queue.addAll(additionalRoots);
+        }
+        while (!queue.isEmpty()) {
+            var schemaName = queue.poll();
+            if (!reachable.add(schemaName)) {
+                continue;
+            }
+            var refs = edges.get(schemaName);
+            if (refs != null) {
+                for (var ref : refs) {
+                    if (!reachable.contains(ref)) {
+                        queue.add(ref);
+                    }
+                }
+            }
+        }
+        return reachable;
+    }
+
+    private void collectFromComponents(Components components) {
+        collectFromObject(components.getExtensions());
+        if (CollectionUtils.isNotEmpty(components.getResponses())) {
+            for (var response : components.getResponses().values()) {
+                collectFromResponse(response);
+            }
+        }
+        if (CollectionUtils.isNotEmpty(components.getParameters())) {
+            for (var parameter : components.getParameters().values()) {
+                collectFromParameter(parameter);
+            }
+        }
+        if (CollectionUtils.isNotEmpty(components.getRequestBodies())) {
+            for (var requestBody : components.getRequestBodies().values()) {
+                collectFromRequestBody(requestBody);
+            }
+        }
+        collectFromHeaders(components.getHeaders());
+        collectFromLinks(components.getLinks());
+        collectFromCallbacks(components.getCallbacks());
+        if (CollectionUtils.isNotEmpty(components.getPathItems())) {
+            for (var pathItem : components.getPathItems().values()) {
+                collectFromPathItem(pathItem);
+            }
+        }
+    }
+
+    private void collectFromPathItem(PathItem pathItem) {
+        if (pathItem == null || !visited.add(pathItem)) {
+            return;
+        }
+        collectFromObject(pathItem.getExtensions());
+        collectFromParameters(pathItem.getParameters());
+        for (var operation : pathItem.readOperations()) {
+            collectFromOperation(operation);
+        }
+    }
+
+    private void collectFromOperation(Operation operation) {
+        if (operation == null) {
+            return;
+        }
+        collectFromObject(operation.getExtensions());
+        collectFromParameters(operation.getParameters());
+        collectFromRequestBody(operation.getRequestBody());
+        if (CollectionUtils.isNotEmpty(operation.getResponses())) {
+            collectFromObject(operation.getResponses().getExtensions());
+            for (var response : operation.getResponses().values()) {
+                collectFromResponse(response);
+            }
+        }
+        collectFromCallbacks(operation.getCallbacks());
+    }
+
+    private void collectFromCallbacks(Map<String, Callback> callbacks) {
+        if (CollectionUtils.isEmpty(callbacks)) {
+            return;
+        }
+        for (var callback : callbacks.values()) {
+            if (callback == null) {
+                continue;
+            }
+            collectFromObject(callback.getExtensions());
+            for (var pathItem : callback.values()) {
+                collectFromPathItem(pathItem);
+            }
+        }
+    }
+
+    private void collectFromParameters(List<Parameter> parameters) {
+        if (CollectionUtils.isEmpty(parameters)) {
+            return;
+        }
+        for (var parameter : parameters) {
+            collectFromParameter(parameter);
+        }
+    }
+
+    private void collectFromParameter(Parameter parameter) {
+        if (parameter == null) {
+            return;
+        }
+        collectFromObject(parameter.getExtensions());
+        collectFromSchema(parameter.getSchema());
+        collectFromContent(parameter.getContent());
+    }
+
+    private void collectFromRequestBody(RequestBody requestBody) {
+        if (requestBody == null) {
+            return;
+        }
+        collectFromObject(requestBody.getExtensions());
+        collectFromContent(requestBody.getContent());
+    }
+
+    private void collectFromResponse(ApiResponse response) {
+        if (response == null) {
+            return;
+        }
+        collectFromObject(response.getExtensions());
+        collectFromContent(response.getContent());
+        collectFromHeaders(response.getHeaders());
+        collectFromLinks(response.getLinks());
+    }
+
+    private void collectFromHeaders(Map<String, Header> headers) {
+        if (CollectionUtils.isEmpty(headers)) {
+            return;
+        }
+        for (var header : headers.values()) {
+            if (header == null) {
+                continue;
+            }
+            collectFromObject(header.getExtensions());
+            collectFromSchema(header.getSchema());
+            collectFromContent(header.getContent());
+        }
+    }
+
+    private void collectFromLinks(Map<String, Link> links) {
+        if (CollectionUtils.isEmpty(links)) {
+            return;
+        }
+        for (var link : links.values()) {
+            if (link == null) {
+                continue;
+            }
+            collectFromObject(link.getExtensions());
+            collectFromObject(link.getRequestBody());
+            collectFromHeaders(link.getHeaders());
+        }
+    }
+
+    private void collectFromContent(Content content) {
+        if (CollectionUtils.isEmpty(content)) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            if (mediaType == null) {
+                continue;
+            }
+            collectFromObject(mediaType.getExtensions());
+            collectFromSchema(mediaType.getSchema());
+            if (CollectionUtils.isNotEmpty(mediaType.getEncoding())) {
+                for (Encoding encoding : mediaType.getEncoding().values()) {
+                    if (encoding != null) {
+                        collectFromObject(encoding.getExtensions());
+                        collectFromHeaders(encoding.getHeaders());
+                    }
+                }
+            }
+        }
+    }
+
+    private void collectFromSchema(Schema<?> schema) {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+        addRef(schema.get$ref());
+        collectFromObject(schema.getExtensions());
+        if (schema.getDiscriminator() != null && CollectionUtils.isNotEmpty(schema.getDiscriminator().getMapping())) {
+            for (var mappingRef : schema.getDiscriminator().getMapping().values()) {
+                addRef(mappingRef);
+            }
+        }
+        collectFromSchemas(schema.getProperties());
+        collectFromSchemas(schema.getPatternProperties());
+        collectFromSchemas(schema.getDependentSchemas());
+        collectFromSchemas(schema.getAllOf());
+        collectFromSchemas(schema.getAnyOf());
+        collectFromSchemas(schema.getOneOf());
+        collectFromSchemas(schema.getPrefixItems());
+        collectFromSchema(schema.getItems());
+        collectFromSchema(schema.getNot());
+        collectFromSchema(schema.getContains());
+        collectFromSchema(schema.getIf());
+        collectFromSchema(schema.getThen());
+        collectFromSchema(schema.getElse());
+        collectFromSchema(schema.getPropertyNames());
+        collectFromSchema(schema.getAdditionalItems());
+        collectFromSchema(schema.getUnevaluatedItems());
+        collectFromSchema(schema.getContentSchema());
+        Object additionalProperties = schema.getAdditionalProperties();
+        if (additionalProperties instanceof Schema<?> additionalPropertiesSchema) {
+            collectFromSchema(additionalPropertiesSchema);
+        }
+        Object unevaluatedProperties = schema.getUnevaluatedProperties();
+        if (unevaluatedProperties instanceof Schema<?> unevaluatedPropertiesSchema) {
+            collectFromSchema(unevaluatedPropertiesSchema);
+        }
+    }
+
+    private void collectFromSchemas(Map<String, Schema> schemas) {
+        if (CollectionUtils.isEmpty(schemas)) {
+            return;
+        }
+        for (var schema : schemas.values()) {
+            collectFromSchema(schema);
+        }
+    }
+
+    private void collectFromSchemas(List<Schema> schemas) {
+        if (CollectionUtils.isEmpty(schemas)) {
+            return;
+        }
+        for (var schema : schemas) {
+            collectFromSchema(schema);
+        }
+    }
+
+    /**
+     * Extensions and link request bodies are free-form values, so any string value
+     * looking like a component schema reference is treated as reference.
+     *
+     * @param value free-form value
+     */
+    private void collectFromObject(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof CharSequence str) {
+            addRef(str.toString());
+        } else if (value instanceof Schema<?> schema) {
+            collectFromSchema(schema);
+        } else if (value instanceof Map<?, ?> map) {
+            if (map.isEmpty() || !visited.add(map)) {
+                return;
+            }
+            for (var entry : map.entrySet()) {
+                collectFromObject(entry.getKey());
+                collectFromObject(entry.getValue());
+            }
+        } else if (value instanceof Collection<?> collection) {
+            if (collection.isEmpty() || !visited.add(collection)) {
+                return;
+            }
+            for (var item : collection) {
+                collectFromObject(item);
+            }
+        }
+    }
+
+    private void addRef(String ref) {
+        if (ref != null && ref.length() > COMPONENTS_SCHEMAS_REF.length() && ref.startsWith(COMPONENTS_SCHEMAS_REF)) {
+            sink.add(ref.substring(COMPONENTS_SCHEMAS_REF.length()));
+        }
+    }
+}
@@ -15,7 +15,9 @@
  */
 package io.micronaut.openapi.visitor;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.util.ArrayUtils;
@@ -25,6 +27,7 @@ import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.inject.ast.Element;
 import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiStringPool;
 import io.micronaut.openapi.SimpleSchema;
 import io.swagger.v3.oas.annotations.extensions.Extension;
 import io.swagger.v3.oas.annotations.extensions.ExtensionProperty;
@@ -224,7 +227,7 @@ public final class SchemaUtils {
     }
 
     public static String schemaRef(String schemaName) {
-        return COMPONENTS_SCHEMAS_REF + schemaName;
+        return OpenApiStringPool.intern(COMPONENTS_SCHEMAS_REF + schemaName);
     }
 
     public static Operation getOperationOnPathItem(PathItem pathItem, HttpMethod httpMethod) {
@@ -1198,6 +1201,91 @@ public final class SchemaUtils {
         }
     }
 
+    /**
+     * Create structural copy of openAPI object without paths and webhooks. All lists and maps are new,
+     * so elements can be added or removed independently, but model objects are shared with the source object.
+     *
+     * @param from source openAPI object
+     * @param to target openAPI object
+     */
+    public static void copyOpenApiStructure(OpenAPI from, OpenAPI to) {
+        to.setTags(copyList(from.getTags()));
+        to.setServers(copyList(from.getServers()));
+        to.setInfo(from.getInfo());
+        to.setSecurity(copyList(from.getSecurity()));
+        to.setExternalDocs(from.getExternalDocs());
+        to.setExtensions(copyMap(from.getExtensions()));
+    }
+
+    /**
+     * Create structural copy of components object. All component maps are new, so components can be
+     * added or removed independently, but component objects are shared with the source object.
+     *
+     * @param components source components
+     *
+     * @return structural copy of components
+     */
+    public static Components copyComponentsStructure(Components components) {
+        if (components == null) {
+            return null;
+        }
+        var copy = new Components();
+        copy.setSchemas(copyMap(components.getSchemas()));
+        copy.setResponses(copyMap(components.getResponses()));
+        copy.setParameters(copyMap(components.getParameters()));
+        copy.setExamples(copyMap(components.getExamples()));
+        copy.setRequestBodies(copyMap(components.getRequestBodies()));
+        copy.setHeaders(copyMap(components.getHeaders()));
+        copy.setSecuritySchemes(copyMap(components.getSecuritySchemes()));
+        copy.setLinks(copyMap(components.getLinks()));
+        copy.setCallbacks(copyMap(components.getCallbacks()));
+        copy.setExtensions(copyMap(components.getExtensions()));
+        copy.setPathItems(copyMap(components.getPathItems()));
+        return copy;
+    }
+
+    /**
+     * Replace model objects of the structural copy, which are modified by post-processing, with deep copies:
+     * info, servers, tags and component schemas. After that the document can be post-processed without
+     * changing other documents. Operations of group documents are already copied, other components
+     * are only reordered or removed in the own maps of the document.
+     *
+     * @param openApi structural copy of openAPI object
+     * @param mapper object mapper
+     *
+     * @throws JsonProcessingException if objects can't be copied
+     */
+    public static void detachMutableObjects(OpenAPI openApi, ObjectMapper mapper) throws JsonProcessingException {
+        var components = openApi.getComponents();
+        var mutable = new OpenAPI()
+            .info(openApi.getInfo())
+            .servers(openApi.getServers())
+            .tags(openApi.getTags());
+        if (components != null && components.getSchemas() != null) {
+            mutable.setComponents(new Components().schemas(components.getSchemas()));
+        }
+        var copy = mapper.treeToValue(mapper.valueToTree(mutable), OpenAPI.class);
+        openApi.setInfo(copy.getInfo());
+        if (openApi.getServers() != null) {
+            openApi.setServers(copy.getServers() != null ? copy.getServers() : new ArrayList<>());
+        }
+        if (openApi.getTags() != null) {
+            openApi.setTags(copy.getTags() != null ? copy.getTags() : new ArrayList<>());
+        }
+        if (mutable.getComponents() != null) {
+            components.setSchemas(copy.getComponents() != null && copy.getComponents().getSchemas() != null
+                ? copy.getComponents().getSchemas() : new LinkedHashMap<>());
+        }
+    }
+
+    private static <K, V> Map<K, V> copyMap(Map<K, V> map) {
+        return map != null ? new LinkedHashMap<>(map) : null;
+    }
+
+    private static <T> List<T> copyList(List<T> list) {
+        return list != null ? new ArrayList<>(list) : null;
+    }
+
     public static boolean isIgnoredHeader(String headerName) {
         // Header parameter named "Authorization" are ignored. Use the `securitySchemes` and `security` sections instead to define authorization
         // Header parameter named "Content-Type" are ignored. The values for the "Content-Type" header are defined by `request.body.content.<media-type>`
@@ -21,6 +21,7 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.http.MediaType;
 import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiStringPool;
 import io.micronaut.openapi.OpenApiUtils;
 import io.micronaut.openapi.javadoc.JavadocParser;
 import io.micronaut.openapi.visitor.group.EndpointInfo;
@@ -39,7 +40,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_31_ENABLED;
 import static io.swagger.v3.oas.models.media.Schema.BIND_TYPE_AND_TYPES;
@@ -86,6 +89,8 @@ public final class Utils {
     private static String testFileName;
     private static String testYamlReference;
     private static String testJsonReference;
+    private static Map<String, String> testFileReferences = new ConcurrentHashMap<>();
+    private static Map<String, byte[]> testBinaryFileReferences = new ConcurrentHashMap<>();
 
     private static JavadocParser javadocParser = new JavadocParser();
 
@@ -97,6 +102,10 @@ public final class Utils {
             return;
         }
         openapi31 = ConfigUtils.getBooleanProperty(MICRONAUT_OPENAPI_31_ENABLED, false, context);
+        if (ConfigUtils.isMappersPrimingEnabled(context)) {
+            // mappers are used only at the end of processing, so there is enough time to prime them in background
+            OpenApiUtils.primeMappers(openapi31);
+        }
         inited = true;
     }
 
@@ -107,6 +116,8 @@ public final class Utils {
      * @return MediaType object
      */
     public static MediaType getMediaType(String mediaTypeName) {
+        // the same media types are repeated in every operation
+        mediaTypeName = OpenApiStringPool.intern(mediaTypeName);
         try {
             return MediaType.of(mediaTypeName);
         } catch (Exception e) {
@@ -137,6 +148,35 @@ public final class Utils {
         }
     }
 
+    /**
+     * Find and remove duplicates in lists by keys. Elements with null key are never treated as duplicates,
+     * the first-seen order of elements is kept.
+     *
+     * @param elements list of elements
+     * @param keyExtractor function to get element key
+     * @param <T> elements class
+     * @param <K> key class
+     *
+     * @return list of elements without duplicates
+     */
+    public static <T, K> List<T> findAndRemoveDuplicates(List<T> elements, Function<T, K> keyExtractor) {
+        if (CollectionUtils.isEmpty(elements)) {
+            return elements;
+        }
+        var keys = new HashSet<K>(elements.size() * 2);
+        var result = new ArrayList<T>(elements.size());
+        for (var element : elements) {
+            K key = element != null ? keyExtractor.apply(element) : null;
+            if (key == null || keys.add(key)) {
+                result.add(element);
+            }
+        }
+        if (result.size() != elements.size()) {
+            return result;
+        }
+        return elements;
+    }
+
     /**
      * Find and remove duplicates in lists.
      *
@@ -281,6 +321,22 @@ public final class Utils {
         Utils.testJsonReference = testJsonReference;
     }
 
+    public static Map<String, String> getTestFileReferences() {
+        return testFileReferences;
+    }
+
+    public static void addTestFileReference(String fileName, String content) {
+        testFileReferences.put(fileName, content);
+    }
+
+    public static Map<String, byte[]> getTestBinaryFileReferences() {
+        return testBinaryFileReferences;
+    }
+
+    public static void addTestBinaryFileReference(String fileName, byte[] content) {
+        testBinaryFileReferences.put(fileName, content);
+    }
+
     public static JavadocParser getJavadocParser() {
         return javadocParser;
     }
@@ -355,6 +411,10 @@ public final class Utils {
         return openapi31 ? OpenApiUtils.getYamlMapper31() : OpenApiUtils.getYamlMapper();
     }
 
+    public static ObjectMapper getSmileMapper() {
+        return openapi31 ? OpenApiUtils.getSmileMapper31() : OpenApiUtils.getSmileMapper();
+    }
+
     public static boolean isOpenapi31() {
         return openapi31;
     }
@@ -380,9 +440,16 @@ public final class Utils {
         testFileName = null;
         testYamlReference = null;
         testJsonReference = null;
+        testFileReferences = new ConcurrentHashMap<>();
+        testBinaryFileReferences = new ConcurrentHashMap<>();
         creatorConstructorsCache = new HashMap<>();
         System.clearProperty(BIND_TYPE_AND_TYPES);
         SchemaDefinitionUtils.clean();
         OpenApiExtraSchemaVisitor.clean();
+        FragmentCache.clean();
+        AdditionalFilesMerger.clean();
+        ProcessingMetrics.clean();
+        OpenApiStringPool.reset();
+        javadocParser = new JavadocParser();
     }
 }
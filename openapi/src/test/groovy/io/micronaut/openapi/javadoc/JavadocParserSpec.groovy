@@ -199,4 +199,41 @@ Note that ambiguity may arise when the values contain commas themselves after be
 
 Note that ambiguity may arise when the values contain commas themselves after being converted to String.'''
     }
+
+    void 'test parsed javadoc is reused and plain text is not converted'() {
+
+        given:
+        JavadocParser parser = new JavadocParser()
+        String javadoc = '''
+Find the pet by name. Returns <b>single</b> pet.
+
+@param name The pet name
+@param limit The {@code limit} value
+@return The pet
+'''
+
+        when:
+        JavadocDescription desc = parser.parse(javadoc)
+        int converted = parser.convertedCount
+        int skipped = parser.skippedCount
+
+        then:
+        desc.methodSummary == 'Find the pet by name.'
+        desc.methodDescription == 'Find the pet by name. Returns **single** pet.'
+        desc.parameters['name'] == 'The pet name'
+        desc.parameters['limit'] == 'The `limit` value'
+        desc.returnDescription == 'The pet'
+        converted == 2
+        skipped == 3
+
+        when:
+        desc.parameters.clear()
+        JavadocDescription desc2 = parser.parse(javadoc.strip())
+
+        then:
+        desc2.parameters.size() == 2
+        desc2.methodDescription == desc.methodDescription
+        parser.convertedCount == converted
+        parser.skippedCount == skipped
+    }
 }
@@ -1,5 +1,6 @@
 package io.micronaut.openapi.view
 
+import io.micronaut.openapi.visitor.FileUtils
 import io.micronaut.openapi.visitor.OpenApiConfigProperty
 import io.micronaut.openapi.visitor.Pair
 import io.micronaut.openapi.visitor.group.OpenApiInfo
@@ -11,6 +12,7 @@ import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.Paths
+import java.util.zip.GZIPInputStream
 import spock.util.environment.RestoreSystemProperties
 
 class OpenApiOperationViewRenderSpec extends Specification {
@@ -80,6 +82,230 @@ class OpenApiOperationViewRenderSpec extends Specification {
         outputDir.resolve("openapi-explorer").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name()).contains("/openapi-explorer/res/openapi-explorer.min.js")
     }
 
+    @RestoreSystemProperties
+    void "test render OpenApiView with precompressed resources"() {
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PRECOMPRESS_ENABLED, "true")
+        String spec = "redoc.enabled=true"
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, null, new Properties(), null)
+        Path outputDir = Paths.get("output")
+        cfg.title = "OpenAPI documentation"
+        cfg.specFile = "swagger.yml"
+        cfg.render(outputDir, null)
+        Path index = outputDir.resolve("redoc").resolve("index.html")
+        Path js = outputDir.resolve("redoc").resolve("res").resolve("redoc.standalone.js")
+
+        expect:
+        new GZIPInputStream(Files.newInputStream(index.resolveSibling("index.html.gz"))).bytes == Files.readAllBytes(index)
+        new GZIPInputStream(Files.newInputStream(js.resolveSibling("redoc.standalone.js.gz"))).bytes == Files.readAllBytes(js)
+        Files.size(js.resolveSibling("redoc.standalone.js.gz")) < Files.size(js)
+        Files.readString(index.resolveSibling("index.html.etag")) == FileUtils.etag(Files.readAllBytes(index))
+        Files.readString(index.resolveSibling("index.html.etag")) ==~ /"[0-9a-f]{64}"/
+    }
+
+    @RestoreSystemProperties
+    void "test render OpenApiView skips unchanged resources"() {
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PRECOMPRESS_ENABLED, "true")
+        String spec = "redoc.enabled=true,rapipdf.enabled=true"
+        Path outputDir = Paths.get("output")
+        Path js = outputDir.resolve("redoc").resolve("res").resolve("redoc.standalone.js")
+
+        when:
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, null, new Properties(), null)
+        cfg.specFile = "swagger.yml"
+        cfg.render(outputDir, null)
+        def content = Files.readAllBytes(js)
+        def manifest = ViewAssetManifest.load(outputDir, null)
+
+        then:
+        Files.exists(outputDir.resolve(ViewAssetManifest.MANIFEST_FILE_NAME))
+        !manifest.write(js, content)
+        !manifest.write(outputDir.resolve("redoc").resolve("index.html"), Files.readAllBytes(outputDir.resolve("redoc").resolve("index.html")))
+        manifest.skippedCount == 2
+
+        when: "target file is changed outside"
+        Files.writeString(js, "changed")
+        manifest = ViewAssetManifest.load(outputDir, null)
+
+        then:
+        manifest.write(js, content)
+        Files.readAllBytes(js) == content
+
+        when: "render again"
+        Files.writeString(js, "changed")
+        Files.delete(js.resolveSibling("redoc.standalone.js.gz"))
+        cfg.render(outputDir, null)
+
+        then:
+        Files.readAllBytes(js) == content
+        Files.exists(js.resolveSibling("redoc.standalone.js.gz"))
+        Files.exists(outputDir.resolve("redoc").resolve("res").resolve("rapipdf-min.js.gz"))
+    }
+
+    void "test render OpenApiView finds unchanged resources by source fingerprint"() {
+        given:
+        String spec = "redoc.enabled=true,rapidoc.enabled=true,rapidoc.hashed-resources=true"
+        Path outputDir = Paths.get("output")
+        Path redocJs = outputDir.resolve("redoc").resolve("res").resolve("redoc.standalone.js")
+        Path rapidocJs = outputDir.resolve("rapidoc").resolve("res").resolve("rapidoc-min.js")
+        def classLoader = getClass().classLoader
+
+        when:
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, null, new Properties(), null)
+        cfg.specFile = "swagger.yml"
+        cfg.render(outputDir, null)
+        String redocSource = ViewAssetManifest.sourceFingerprint(classLoader.getResource("templates/redoc/res/redoc.standalone.js"))
+        String rapidocSource = ViewAssetManifest.sourceFingerprint(classLoader.getResource("templates/rapidoc/res/rapidoc-min.js"))
+        def manifest = ViewAssetManifest.load(outputDir, null)
+        def hashedRapidocJs = manifest.findUnchangedResource(rapidocJs, rapidocSource, true)
+
+        then:
+        redocSource
+        manifest.findUnchangedResource(redocJs, redocSource, false) == redocJs
+        hashedRapidocJs.fileName.toString() == OpenApiViewConfig.hashedFileName("rapidoc-min.js", Files.readAllBytes(hashedRapidocJs))
+        !manifest.findUnchangedResource(redocJs, redocSource + "|changed", false)
+        manifest.skippedCount == 2
+
+        when: "target file is changed outside"
+        Files.writeString(redocJs, "changed")
+        manifest = ViewAssetManifest.load(outputDir, null)
+
+        then:
+        !manifest.findUnchangedResource(redocJs, redocSource, false)
+
+        when: "render again"
+        cfg.render(outputDir, null)
+
+        then:
+        Files.readAllBytes(redocJs) == classLoader.getResourceAsStream("templates/redoc/res/redoc.standalone.js").bytes
+    }
+
+    void "test render OpenApiView with hashed resources"() {
+        given:
+        String spec = "redoc.enabled=true,redoc.hashed-resources=true,rapipdf.enabled=true,swagger-ui.enabled=true,swagger-ui.hashed-resources=true,swagger-ui.theme=flattop"
+        Path outputDir = Paths.get("output")
+        Path redocRes = outputDir.resolve("redoc").resolve("res")
+        Path swaggerUiRes = outputDir.resolve("swagger-ui").resolve("res")
+
+        when:
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, null, new Properties(), null)
+        cfg.specFile = "swagger.yml"
+        cfg.render(outputDir, null)
+        def js = Files.list(redocRes).toList().find { it.fileName.toString() ==~ /redoc\.standalone\.[0-9a-f]{16}\.js/ }
+        def theme = Files.list(swaggerUiRes).toList().find { it.fileName.toString() ==~ /flattop\.[0-9a-f]{16}\.css/ }
+        String redocIndex = Files.readString(outputDir.resolve("redoc").resolve("index.html"))
+        String swaggerUiIndex = Files.readString(outputDir.resolve("swagger-ui").resolve("index.html"))
+
+        then:
+        js
+        theme
+        js.fileName.toString() == OpenApiViewConfig.hashedFileName("redoc.standalone.js", Files.readAllBytes(js))
+        !Files.exists(redocRes.resolve("redoc.standalone.js"))
+        Files.exists(redocRes.resolve("rapipdf-min.js"))
+        new GZIPInputStream(Files.newInputStream(js.resolveSibling(js.fileName.toString() + ".gz"))).bytes == Files.readAllBytes(js)
+        Files.exists(theme.resolveSibling(theme.fileName.toString() + ".gz"))
+        !Files.exists(outputDir.resolve("redoc").resolve("index.html.gz"))
+
+        redocIndex.contains('/redoc/res/' + js.fileName + '"')
+        !redocIndex.contains('redoc.standalone.js"')
+        redocIndex.contains('/redoc/res/rapipdf-min.js"')
+        swaggerUiIndex.contains('/swagger-ui/res/' + theme.fileName + '"')
+        swaggerUiIndex =~ /\/swagger-ui\/res\/swagger-ui-bundle\.[0-9a-f]{16}\.js"/
+        !redocIndex.contains('{{')
+        !swaggerUiIndex.contains('{{')
+
+        when: "previous hashed resource is stale"
+        Path stale = redocRes.resolve("redoc.standalone.0123456789abcdef.js")
+        Files.move(js, stale)
+        Files.move(js.resolveSibling(js.fileName.toString() + ".gz"), stale.resolveSibling(stale.fileName.toString() + ".gz"))
+        def manifestFile = outputDir.resolve(ViewAssetManifest.MANIFEST_FILE_NAME)
+        Files.writeString(manifestFile, Files.readString(manifestFile).replace(js.fileName.toString(), stale.fileName.toString()))
+        cfg.render(outputDir, null)
+
+        then:
+        Files.exists(js)
+        !Files.exists(stale)
+        !Files.exists(stale.resolveSibling(stale.fileName.toString() + ".gz"))
+    }
+
+    @RestoreSystemProperties
+    void "test render OpenApiView views in parallel"() {
+        given:
+        String spec = "redoc.enabled=true,rapidoc.enabled=true,swagger-ui.enabled=true,openapi-explorer.enabled=true,rapipdf.enabled=true,swagger-ui.theme=flattop,swagger-ui.oauth2.clientId=foo"
+        Path sequentialDir = Paths.get("output").resolve("sequential")
+        Path parallelDir = Paths.get("output").resolve("parallel")
+
+        when:
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, null, new Properties(), null)
+        cfg.specFile = "swagger.yml"
+        cfg.render(sequentialDir, null)
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLEL_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLEL_THREADS, "4")
+        cfg = OpenApiViewConfig.fromSpecification(spec, null, new Properties(), null)
+        cfg.specFile = "swagger.yml"
+        cfg.render(parallelDir, null)
+        def files = { Path dir -> Files.walk(dir).withCloseable { it.filter { Files.isRegularFile(it) && it.fileName.toString() != ViewAssetManifest.MANIFEST_FILE_NAME }.toList().collectEntries { [dir.relativize(it).toString(), Files.readAllBytes(it)] } } }
+        def sequential = files(sequentialDir)
+        def parallel = files(parallelDir)
+
+        then:
+        parallel.keySet() == sequential.keySet()
+        parallel.every { name, content -> content == sequential[name] }
+        parallel.containsKey(Paths.get("swagger-ui", "oauth2-redirect.html").toString())
+        parallel.containsKey(Paths.get("redoc", "res", "rapipdf-min.js").toString())
+        new String(parallel[Paths.get("redoc", "index.html").toString()], StandardCharsets.UTF_8).contains("rapi-pdf")
+    }
+
+    @RestoreSystemProperties
+    void "test render OpenApiView links resources from asset store"() {
+        given:
+        Path storeDir = Paths.get("output").resolve("store")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_ASSET_STORE_DIR, storeDir.toAbsolutePath().toString())
+        String spec = "redoc.enabled=true"
+        Path moduleA = Paths.get("output").resolve("a")
+        Path moduleB = Paths.get("output").resolve("b")
+        Path jsA = moduleA.resolve("redoc").resolve("res").resolve("redoc.standalone.js")
+        Path jsB = moduleB.resolve("redoc").resolve("res").resolve("redoc.standalone.js")
+
+        when:
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, null, new Properties(), null)
+        cfg.specFile = "swagger.yml"
+        cfg.render(moduleA, null)
+        cfg.render(moduleB, null)
+        def content = Files.readAllBytes(jsA)
+        Path stored = storeDir.resolve("dev").resolve(FileUtils.sha256Hex(content))
+
+        then:
+        Files.readAllBytes(stored) == content
+        Files.readAllBytes(jsB) == content
+        Files.isSameFile(jsA, stored)
+        Files.isSameFile(jsB, stored)
+        !Files.isSameFile(moduleA.resolve("redoc").resolve("index.html"), moduleB.resolve("redoc").resolve("index.html"))
+
+        when: "linked file is written again"
+        ViewAssetManifest.load(moduleA, null).write(jsA, "changed".bytes)
+
+        then:
+        Files.readString(jsA) == "changed"
+        Files.readAllBytes(stored) == content
+        Files.readAllBytes(jsB) == content
+
+        when: "stored entry is corrupted with the same size"
+        Path moduleC = Paths.get("output").resolve("c")
+        Path jsC = moduleC.resolve("redoc").resolve("res").resolve("redoc.standalone.js")
+        byte[] corrupted = new byte[content.length]
+        Arrays.fill(corrupted, (byte) 'x')
+        Files.write(stored, corrupted)
+        cfg.render(moduleC, null)
+
+        then:
+        Files.readAllBytes(stored) == content
+        Files.readAllBytes(jsC) == content
+        Files.isSameFile(jsC, stored)
+    }
+
     void "test render OpenApiView specification with custom redoc js url"() {
         given:
         String spec = "redoc.enabled=true,rapipdf.enabled=true,redoc.copy-resources=false,redoc.js.url=https://cdn.redoc.ly/redoc/latest/bundles/"
@@ -0,0 +1,44 @@
+package io.micronaut.openapi.view
+
+import spock.lang.Specification
+
+class ViewTemplateSpec extends Specification {
+
+    void "test render placeholders in one pass"() {
+        given:
+        def template = ViewTemplate.compile('<title>{{title}}</title><script src="{{redoc.js.url.prefix}}redoc.js"></script>{{title}}')
+
+        expect:
+        template.render([title: 'API', 'redoc.js.url.prefix': '/redoc/res/']) == '<title>API</title><script src="/redoc/res/redoc.js"></script>API'
+    }
+
+    void "test unknown placeholders and braces in scripts are kept"() {
+        given:
+        String source = 'a{{unknown}}b e.url.split("}}").join("{{") {{{title}}} {{ title }}'
+
+        expect:
+        ViewTemplate.compile(source).render([title: 'T']) == 'a{{unknown}}b e.url.split("}}").join("{{") {T} {{ title }}'
+        ViewTemplate.compile(source).render([:]) == source
+    }
+
+    void "test placeholders in values are resolved once"() {
+        given:
+        def template = ViewTemplate.compile('{{rapipdf.specurl}}')
+
+        expect:
+        template.render(['rapipdf.specurl': "spec('{{specURL}}')", specURL: '/swagger/{{title}}.yml', title: 'x']) == "spec('/swagger/{{title}}.yml')"
+    }
+
+    void "test compiled templates are cached by key and source"() {
+        when:
+        def first = ViewTemplate.of('test/index.html', 'a {{title}}')
+        def second = ViewTemplate.of('test/index.html', 'a {{title}}')
+        def changed = ViewTemplate.of('test/index.html', 'b {{title}}')
+
+        then:
+        first.is(second)
+        !first.is(changed)
+        ViewTemplate.get('test/index.html').is(changed)
+        changed.render([title: 'T']) == 'b T'
+    }
+}
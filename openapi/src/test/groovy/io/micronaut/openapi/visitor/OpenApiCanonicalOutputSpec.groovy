@@ -0,0 +1,135 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.Operation
+import io.swagger.v3.oas.models.PathItem
+import io.swagger.v3.oas.models.Paths
+import io.swagger.v3.oas.models.info.Info
+import io.swagger.v3.oas.models.media.ObjectSchema
+import io.swagger.v3.oas.models.media.StringSchema
+import io.swagger.v3.oas.models.responses.ApiResponse
+import io.swagger.v3.oas.models.responses.ApiResponses
+import spock.util.environment.RestoreSystemProperties
+
+class OpenApiCanonicalOutputSpec extends AbstractOpenApiTypeElementSpec {
+
+    private static String source(String fields) {
+        return """
+package test;
+
+import java.util.List;
+
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+
+@OpenAPIDefinition(info = @Info(title = "Canonical", version = "1.0"))
+class Application {
+}
+
+@Controller("/pets")
+class PetController {
+
+    @Get
+    public List<Pet> list(@QueryValue String name) {
+        return null;
+    }
+}
+
+class Pet {
+
+    $fields
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+"""
+    }
+
+    @RestoreSystemProperties
+    void "test canonical output doesn't depend on declaration order (formats: #formats)"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_CANONICAL_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_FORMATS, formats)
+
+        when:
+        buildBeanDefinition('test.MyBean', source('public String zeta; public int alpha; public String middle;'))
+        def first = new HashMap<>(Utils.testFileReferences)
+        Utils.clean()
+        buildBeanDefinition('test.MyBean', source('public String middle; public String zeta; public int alpha;'))
+        def second = new HashMap<>(Utils.testFileReferences)
+        def yaml = first['canonical-1.0.yml']
+
+        then:
+        !first.isEmpty()
+        first == second
+        yaml.indexOf('alpha:') < yaml.indexOf('middle:')
+        yaml.indexOf('middle:') < yaml.indexOf('zeta:')
+
+        where:
+        formats << ['yaml', 'yaml,json,json-min']
+    }
+
+    void "test canonical writer sorts map entries and extensions without changing model"() {
+
+        given:
+        def schema = new ObjectSchema()
+            .addProperty('b', new StringSchema())
+            .addProperty('a', new StringSchema())
+        schema.addExtension('x-z', 1)
+        schema.addExtension('x-a', 2)
+        def openApi = new OpenAPI()
+            .info(new Info().title('Canonical').version('1.0'))
+            .schema('Second', schema)
+            .schema('First', new StringSchema())
+
+        when:
+        def canonical = OpenApiOutputFormat.JSON_MIN.writer(true).writeValueAsString(openApi)
+        def streamed = OpenApiFormatsWriter.of(openApi, Utils.getJsonMapper(), true).writeAsString(OpenApiOutputFormat.JSON_MIN.writer())
+
+        then:
+        canonical == streamed
+        canonical.indexOf('"First"') < canonical.indexOf('"Second"')
+        canonical.indexOf('"a"') < canonical.indexOf('"b"')
+        canonical.indexOf('"x-a"') < canonical.indexOf('"x-z"')
+        openApi.components.schemas.keySet() as List == ['Second', 'First']
+        schema.properties.keySet() as List == ['b', 'a']
+        OpenApiOutputFormat.JSON_MIN.writer(false).writeValueAsString(openApi) == Utils.getJsonMapper().writeValueAsString(openApi)
+    }
+
+    void "test canonical writer sorts paths and responses with extensions"() {
+
+        given:
+        def responses = new ApiResponses()
+            .addApiResponse('404', new ApiResponse().description('Not found'))
+            .addApiResponse('200', new ApiResponse().description('Ok'))
+        responses.addExtension('x-responses-z', 1)
+        responses.addExtension('x-responses-a', 2)
+        def paths = new Paths()
+            .addPathItem('/b', new PathItem().get(new Operation().operationId('b').responses(responses)))
+            .addPathItem('/a', new PathItem().get(new Operation().operationId('a')))
+        paths.addExtension('x-paths-z', 1)
+        paths.addExtension('x-paths-a', 2)
+        def openApi = new OpenAPI()
+            .info(new Info().title('Canonical').version('1.0'))
+            .paths(paths)
+
+        when:
+        def canonical = OpenApiOutputFormat.JSON_MIN.writer(true).writeValueAsString(openApi)
+        def original = OpenApiOutputFormat.JSON_MIN.writer(false).writeValueAsString(openApi)
+
+        then:
+        canonical.indexOf('"/a"') < canonical.indexOf('"/b"')
+        canonical.indexOf('"x-paths-a"') < canonical.indexOf('"x-paths-z"')
+        canonical.indexOf('"200"') < canonical.indexOf('"404"')
+        canonical.indexOf('"x-responses-a"') < canonical.indexOf('"x-responses-z"')
+        original.indexOf('"/b"') < original.indexOf('"/a"')
+        original.indexOf('"x-paths-z"') < original.indexOf('"x-paths-a"')
+        original.indexOf('"404"') < original.indexOf('"200"')
+        original.indexOf('"x-responses-z"') < original.indexOf('"x-responses-a"')
+        paths.keySet() as List == ['/b', '/a']
+        responses.keySet() as List == ['404', '200']
+    }
+}
@@ -0,0 +1,208 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.media.Schema
+import io.swagger.v3.oas.models.parameters.CookieParameter
+import io.swagger.v3.oas.models.parameters.HeaderParameter
+import io.swagger.v3.oas.models.parameters.PathParameter
+import io.swagger.v3.oas.models.parameters.QueryParameter
+import spock.lang.Specification
+
+class OpenApiDeserializer31Spec extends Specification {
+
+    private static final String SPEC = '''
+openapi: 3.1.0
+info:
+  title: Streaming deserializers
+  version: "1.0"
+paths:
+  /pets/{id}:
+    x-path-extension:
+      nested:
+        - 1
+        - true
+    get:
+      operationId: getPet
+      parameters:
+        - name: id
+          in: path
+          required: true
+          schema:
+            type: string
+        - name: filter
+          in: query
+          style: form
+          explode: false
+          schema:
+            type: [string, "null"]
+        - name: X-Trace
+          in: header
+          schema:
+            type: integer
+            format: int64
+        - name: session
+          in: cookie
+          schema:
+            type: string
+        - $ref: '#/components/parameters/Limit'
+          description: Overridden description
+      responses:
+        x-responses-extension: value
+        "200":
+          description: OK
+          content:
+            application/json:
+              schema:
+                $ref: '#/components/schemas/Pet'
+        default:
+          $ref: '#/components/responses/Error'
+      callbacks:
+        onEvent:
+          $ref: '#/components/callbacks/Event'
+    post:
+      operationId: savePet
+      responses:
+        "201":
+          description: Created
+      callbacks:
+        onSave:
+          x-callback-extension: 42
+          '{$request.body#/callbackUrl}':
+            post:
+              responses:
+                "200":
+                  description: OK
+components:
+  parameters:
+    Limit:
+      name: limit
+      in: query
+      description: Original description
+      schema:
+        type: integer
+  responses:
+    Error:
+      description: Error
+  callbacks:
+    Event:
+      '{$request.body#/url}':
+        post:
+          responses:
+            "200":
+              description: OK
+  schemas:
+    Pet:
+      type: object
+      required: [name]
+      additionalProperties: false
+      properties:
+        name:
+          type: string
+          minLength: 1
+        tags:
+          type: array
+          items:
+            type: [string, "null"]
+        attributes:
+          type: object
+          additionalProperties:
+            type: [integer, string]
+            additionalProperties: true
+        owner:
+          $ref: '#/components/schemas/Owner'
+        any: true
+        nothing: false
+        nullable:
+          type: "null"
+    Owner:
+      description: Owner without type
+      additionalProperties:
+        $ref: '#/components/schemas/Pet'
+      properties:
+        name:
+          const: owner
+'''
+
+    void "test streaming deserializers of OpenAPI 3.1 (format: #format)"() {
+
+        given:
+        def yamlMapper = OpenApiUtils.getYamlMapper31()
+        def mapper = format == 'json' ? OpenApiUtils.getJsonMapper31() : yamlMapper
+        def content = format == 'json' ? OpenApiUtils.getJsonMapper31().writeValueAsString(yamlMapper.readValue(SPEC, Object)) : SPEC
+
+        when:
+        OpenAPI openApi = mapper.readValue(content, OpenAPI)
+        def pathItem = openApi.paths.get('/pets/{id}')
+        def operation = pathItem.get
+        def pet = openApi.components.schemas.Pet
+        def owner = openApi.components.schemas.Owner
+
+        then:
+        openApi.paths.extensions == ['x-path-extension': [nested: [1, true]]]
+        pathItem.extensions == null
+
+        operation.parameters.size() == 5
+        operation.parameters[0] instanceof PathParameter
+        operation.parameters[0].required
+        operation.parameters[0].schema.types == ['string'] as Set
+        operation.parameters[1] instanceof QueryParameter
+        operation.parameters[1].style.toString() == 'form'
+        !operation.parameters[1].explode
+        operation.parameters[1].schema.types == ['string', 'null'] as Set
+        operation.parameters[2] instanceof HeaderParameter
+        operation.parameters[2].schema.types == ['integer'] as Set
+        operation.parameters[2].schema.format == 'int64'
+        operation.parameters[3] instanceof CookieParameter
+        operation.parameters[4].$ref == '#/components/parameters/Limit'
+        operation.parameters[4].description == 'Overridden description'
+        openApi.components.parameters.Limit.description == 'Original description'
+
+        operation.responses.extensions == ['x-responses-extension': 'value']
+        operation.responses.keySet() == ['200', 'default'] as Set
+        operation.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Pet'
+        operation.responses.default.$ref == '#/components/responses/Error'
+
+        operation.callbacks.onEvent.$ref == '#/components/callbacks/Event'
+        operation.callbacks.onEvent.isEmpty()
+        pathItem.post.callbacks.onSave.extensions == ['x-callback-extension': 42]
+        pathItem.post.callbacks.onSave.keySet() == ['{$request.body#/callbackUrl}'] as Set
+
+        pet.types == ['object'] as Set
+        pet.additionalProperties == false
+        pet.required == ['name']
+        pet.properties.name.types == ['string'] as Set
+        pet.properties.name.minLength == 1
+        pet.properties.tags.items.types == ['string', 'null'] as Set
+        pet.properties.attributes.additionalProperties instanceof Schema
+        pet.properties.attributes.additionalProperties.types == ['integer', 'string'] as Set
+        pet.properties.attributes.additionalProperties.additionalProperties == true
+        pet.properties.owner.$ref == '#/components/schemas/Owner'
+        pet.properties.any.booleanSchemaValue == true
+        pet.properties.nothing.booleanSchemaValue == false
+        pet.properties.nullable.types == ['null'] as Set
+
+        owner.types == null
+        owner.description == 'Owner without type'
+        owner.additionalProperties instanceof Schema
+        owner.additionalProperties.$ref == '#/components/schemas/Pet'
+        owner.properties.name.const == 'owner'
+
+        where:
+        format << ['yaml', 'json']
+    }
+
+    void "test OpenAPI 3.1 round trip is stable"() {
+
+        given:
+        def mapper = OpenApiUtils.getYamlMapper31()
+
+        when:
+        def first = mapper.writeValueAsString(mapper.readValue(SPEC, OpenAPI))
+        def second = mapper.writeValueAsString(mapper.readValue(first, OpenAPI))
+
+        then:
+        first == second
+        mapper.readValue(first, OpenAPI) == mapper.readValue(SPEC, OpenAPI)
+    }
+}
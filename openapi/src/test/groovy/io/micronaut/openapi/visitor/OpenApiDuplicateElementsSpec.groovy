@@ -3,6 +3,9 @@ package io.micronaut.openapi.visitor
 import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
 import io.micronaut.openapi.OpenApiUtils
 import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.tags.Tag
+
+import java.util.function.Function
 
 class OpenApiDuplicateElementsSpec extends AbstractOpenApiTypeElementSpec {
 
@@ -101,4 +104,31 @@ components:
         openApi.paths.'/pets'.post.security.size() == 1
     }
 
+    void "test duplicates removed by key with first-seen order"() {
+
+        when:
+        def tags = [
+            new Tag().name('b').description('first'),
+            new Tag().name('a'),
+            new Tag(),
+            new Tag().name('b').description('second'),
+            new Tag(),
+            new Tag().name('a'),
+        ]
+        def result = Utils.findAndRemoveDuplicates(tags, { Tag tag -> tag.name } as Function)
+
+        then:
+        result.size() == 4
+        result[0].name == 'b'
+        result[0].description == 'first'
+        result[1].name == 'a'
+        result[2].name == null
+        result[3].name == null
+
+        when:
+        def unique = ['a', 'b', 'c']
+
+        then:
+        Utils.findAndRemoveDuplicates(unique, Function.identity()).is(unique)
+    }
 }
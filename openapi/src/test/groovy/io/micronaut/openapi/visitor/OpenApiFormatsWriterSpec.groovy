@@ -0,0 +1,149 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.swagger.v3.oas.models.OpenAPI
+import spock.util.environment.RestoreSystemProperties
+
+class OpenApiFormatsWriterSpec extends AbstractOpenApiTypeElementSpec {
+
+    private static final String SOURCE = '''
+package test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.callbacks.Callback;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
+import io.swagger.v3.oas.annotations.extensions.Extension;
+import io.swagger.v3.oas.annotations.extensions.ExtensionProperty;
+import io.swagger.v3.oas.annotations.info.Contact;
+import io.swagger.v3.oas.annotations.info.Info;
+import io.swagger.v3.oas.annotations.info.License;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.DiscriminatorMapping;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.security.SecurityScheme;
+import io.swagger.v3.oas.annotations.servers.Server;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@OpenAPIDefinition(
+    info = @Info(
+        title = "Streaming",
+        version = "1.0",
+        description = "Description with \\"quotes\\", unicode \\u00e9 and\\nnew line",
+        contact = @Contact(name = "Name", email = "mail@example.com"),
+        license = @License(name = "Apache 2.0", url = "https://www.apache.org/licenses/LICENSE-2.0")
+    ),
+    servers = @Server(url = "https://example.com/{version}", description = "Server"),
+    extensions = @Extension(name = "custom", properties = @ExtensionProperty(name = "key", value = "value"))
+)
+@SecurityScheme(name = "bearer", type = SecuritySchemeType.HTTP, scheme = "bearer", bearerFormat = "JWT")
+class Application {
+}
+
+@Tag(name = "pets", description = "Pets")
+@Controller("/pets")
+class PetController {
+
+    /**
+     * Find pets.
+     *
+     * @param type type of the pets
+     * @param limit max number of pets
+     * @return list of pets
+     */
+    @Get
+    @SecurityRequirement(name = "bearer")
+    public List<Pet> list(@QueryValue PetType type, @QueryValue @Parameter(example = "10") Integer limit) {
+        return null;
+    }
+
+    @Post
+    @Callback(name = "created", callbackUrlExpression = "{$request.body#/callbackUrl}", operation = @io.swagger.v3.oas.annotations.Operation(method = "post"))
+    @ApiResponse(responseCode = "201", description = "Created", content = @Content(examples = @ExampleObject(name = "cat", value = "{\\"name\\": \\"Tom\\", \\"price\\": 10.50}")))
+    public Pet save(@Body Pet pet) {
+        return pet;
+    }
+
+    @Get("/{id}")
+    public Map<String, Owner> owners(@PathVariable Long id, @Parameter(in = ParameterIn.HEADER, name = "X-Trace") String trace) {
+        return null;
+    }
+}
+
+enum PetType {
+    CAT, DOG
+}
+
+@Schema(discriminatorProperty = "type", discriminatorMapping = @DiscriminatorMapping(value = "cat", schema = Cat.class), subTypes = Cat.class)
+class Pet {
+
+    @Schema(example = "Tom", minLength = 1, maxLength = 100, requiredMode = Schema.RequiredMode.REQUIRED)
+    public String name;
+    @Schema(example = "12345678901234567890.000000000000001", minimum = "0.01", maximum = "1000000")
+    public BigDecimal price;
+    @Schema(example = "null")
+    public String nickname;
+    public PetType type;
+    public LocalDate birthday;
+    public OffsetDateTime updated;
+    @Schema(deprecated = true, nullable = true)
+    public List<String> tags;
+    public Map<String, Integer> counters;
+}
+
+class Cat extends Pet {
+
+    public boolean indoor;
+}
+
+class Owner {
+
+    @Schema(description = "Owner name", pattern = "^[a-z]+$")
+    public String name;
+    public double rating;
+    public float[] scores;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+'''
+
+    @RestoreSystemProperties
+    void "test multi-format output is the same as object mapper output (openapi31: #openapi31, json: #json)"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_31_ENABLED, openapi31.toString())
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT, json.toString())
+        // several formats are written from the same token buffer
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_FORMATS, json ? "json-min,yaml" : "yaml,json-min")
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+        OpenAPI openApi = Utils.testReference
+        def mapper = json ? Utils.getJsonMapper() : Utils.getYamlMapper()
+        def expected = mapper.writeValueAsString(openApi)
+
+        then:
+        (json ? Utils.testJsonReference : Utils.testYamlReference) == expected
+        OpenApiFormatsWriter.of(openApi, Utils.getJsonMapper(), false).writeAsString(Utils.getYamlMapper().writer()) == Utils.getYamlMapper().writeValueAsString(openApi)
+        OpenApiFormatsWriter.of(openApi, Utils.getJsonMapper(), false).writeAsString(Utils.getJsonMapper().writer()) == Utils.getJsonMapper().writeValueAsString(openApi)
+
+        where:
+        openapi31 | json
+        false     | false
+        false     | true
+        true      | false
+        true      | true
+    }
+}
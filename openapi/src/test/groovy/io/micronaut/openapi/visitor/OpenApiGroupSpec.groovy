@@ -439,6 +439,214 @@ public class MyBean {}
         apiV2.paths.'/demo'.get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/HelloResponseV2'
     }
 
+    @RestoreSystemProperties
+    void "test groups are processed in parallel"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLEL_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLEL_THREADS, "2")
+
+        when:
+        buildBeanDefinition("test.MyBean", '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.openapi.annotation.OpenAPIGroup;
+import io.micronaut.openapi.annotation.OpenAPIGroupInfo;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+
+@Controller
+class MyController {
+
+    @OpenAPIGroup("private")
+    @Get("/private/{id}")
+    MyDto getPrivate(String id) {
+        return null;
+    }
+
+    @OpenAPIGroup("public")
+    @Get("/public/{id}")
+    MyDto getPublic(String id) {
+        return null;
+    }
+
+    @OpenAPIGroup("public")
+    @Get("/public-other/{id}")
+    OtherDto getOther(String id) {
+        return null;
+    }
+}
+
+class MyDto {
+
+    public String name;
+    public NestedDto nested;
+}
+
+class NestedDto {
+
+    public Integer value;
+}
+
+class OtherDto {
+
+    public String title;
+}
+
+@OpenAPIGroupInfo(
+  names = "private",
+  info = @OpenAPIDefinition(
+    info = @Info(
+      title = "Private api"
+    )
+  )
+)
+@OpenAPIGroupInfo(
+  names = "public",
+  info = @OpenAPIDefinition(
+    info = @Info(
+      title = "Public api"
+    )
+  )
+)
+class Application {
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+
+''')
+
+        then:
+        def openApis = Utils.testReferences
+        openApis
+        openApis.size() == 2
+
+        def apiPrivate = openApis.get(Pair.of("private", null)).getOpenApi()
+        def apiPublic = openApis.get(Pair.of("public", null)).getOpenApi()
+
+        apiPrivate.info.title == "Private api"
+        apiPrivate.paths.size() == 1
+        apiPrivate.paths."/private/{id}"
+        apiPrivate.components.schemas.size() == 2
+        apiPrivate.components.schemas.MyDto
+        apiPrivate.components.schemas.NestedDto
+
+        apiPublic.info.title == "Public api"
+        apiPublic.paths.size() == 2
+        apiPublic.paths."/public/{id}"
+        apiPublic.paths."/public-other/{id}"
+        apiPublic.components.schemas.size() == 3
+        apiPublic.components.schemas.MyDto
+        apiPublic.components.schemas.NestedDto
+        apiPublic.components.schemas.OtherDto
+
+        !apiPrivate.components.schemas.MyDto.is(apiPublic.components.schemas.MyDto)
+    }
+
+    @RestoreSystemProperties
+    void "test groups with property naming strategy don't change shared schemas, parallel: #parallel"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLEL_ENABLED, parallel)
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PROPERTY_NAMING_STRATEGY, "SNAKE_CASE")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_GROUPS + ".private.display-name", "Private API")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_GROUPS + ".private.common-exclude", "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_GROUPS + ".public.display-name", "Public API")
+
+        when:
+        buildBeanDefinition("test.MyBean", '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.openapi.annotation.OpenAPIGroup;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Controller
+class MyController {
+
+    @OpenAPIGroup("private")
+    @Get("/private/{id}")
+    MyDto getPrivate(String id) {
+        return null;
+    }
+
+    @OpenAPIGroup("public")
+    @Get("/public/{id}")
+    MyDto getPublic(String id) {
+        return null;
+    }
+
+    @Get("/common")
+    CommonDto getCommon() {
+        return null;
+    }
+}
+
+class MyDto {
+
+    @Schema(requiredMode = Schema.RequiredMode.REQUIRED)
+    public String firstName;
+    public NestedDto nestedDto;
+}
+
+class NestedDto {
+
+    public Integer totalValue;
+}
+
+class CommonDto {
+
+    public String commonTitle;
+}
+
+@OpenAPIDefinition(
+    info = @Info(
+        title = "Title My API",
+        version = "0.0"
+    )
+)
+class Application {
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+
+''')
+
+        then:
+        def openApis = Utils.testReferences
+        openApis
+        openApis.size() == 2
+
+        def apiPrivate = openApis.get(Pair.of("private", null)).getOpenApi()
+        def apiPublic = openApis.get(Pair.of("public", null)).getOpenApi()
+
+        apiPrivate.paths.size() == 1
+        apiPrivate.components.schemas.keySet() == ["MyDto", "NestedDto"] as Set
+        apiPrivate.components.schemas.MyDto.properties.keySet() == ["first_name", "nested_dto"] as Set
+        apiPrivate.components.schemas.MyDto.required == ["first_name"]
+        apiPrivate.components.schemas.NestedDto.properties.keySet() == ["total_value"] as Set
+
+        apiPublic.paths.size() == 2
+        apiPublic.components.schemas.keySet() == ["CommonDto", "MyDto", "NestedDto"] as Set
+        apiPublic.components.schemas.MyDto.properties.keySet() == ["first_name", "nested_dto"] as Set
+        apiPublic.components.schemas.MyDto.required == ["first_name"]
+        apiPublic.components.schemas.NestedDto.properties.keySet() == ["total_value"] as Set
+        apiPublic.components.schemas.CommonDto.properties.keySet() == ["common_title"] as Set
+
+        !apiPrivate.components.schemas.MyDto.is(apiPublic.components.schemas.MyDto)
+        !apiPrivate.info.is(apiPublic.info)
+
+        where:
+        parallel << ["false", "true"]
+    }
+
     void "test remove unused schemas"() {
 
         when:
@@ -517,4 +725,76 @@ components:
         openApi.components.schemas.size() == 1
         openApi.components.schemas.VisibleResponse
     }
+
+    void "test remove unused schemas with cycles and non-schema components"() {
+
+        when:
+        var openApiSpec = """
+openapi: 3.0.1
+info:
+  title: openapi-groups
+  version: "0.0"
+paths:
+  /visible:
+    get:
+      operationId: index
+      responses:
+        "200":
+          \$ref: "#/components/responses/VisibleResponse"
+      callbacks:
+        onEvent:
+          "{\$request.body#/callbackUrl}":
+            post:
+              requestBody:
+                content:
+                  application/json:
+                    schema:
+                      \$ref: "#/components/schemas/CallbackEvent"
+              responses:
+                "200":
+                  description: ok
+components:
+  responses:
+    VisibleResponse:
+      description: visible
+      content:
+        application/json:
+          schema:
+            \$ref: "#/components/schemas/Visible"
+  schemas:
+    Visible:
+      type: object
+      properties:
+        child:
+          \$ref: "#/components/schemas/VisibleChild"
+    VisibleChild:
+      type: object
+      properties:
+        parent:
+          \$ref: "#/components/schemas/Visible"
+    CallbackEvent:
+      type: object
+      properties:
+        id:
+          type: string
+    NotVisibleA:
+      type: object
+      properties:
+        b:
+          \$ref: "#/components/schemas/NotVisibleB"
+    NotVisibleB:
+      type: object
+      properties:
+        a:
+          \$ref: "#/components/schemas/NotVisibleA"
+"""
+        var openApi = OpenApiUtils.getYamlMapper().readValue(openApiSpec, OpenAPI.class)
+        OpenApiApplicationVisitor.removeUnusedSchemas(openApi)
+
+        then:
+        openApi.components.schemas.size() == 3
+        openApi.components.schemas.Visible
+        openApi.components.schemas.VisibleChild
+        openApi.components.schemas.CallbackEvent
+    }
 }
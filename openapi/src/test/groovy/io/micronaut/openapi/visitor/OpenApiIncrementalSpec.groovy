@@ -0,0 +1,263 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.context.env.Environment
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.swagger.v3.oas.models.OpenAPI
+import spock.lang.TempDir
+import spock.util.environment.RestoreSystemProperties
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class OpenApiIncrementalSpec extends AbstractOpenApiTypeElementSpec {
+
+    private static final String SOURCE = '''
+package test;
+
+import java.util.List;
+
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "pets", description = "Pets API")
+@Controller("/pets")
+class PetController {
+
+    @Get
+    public List<Pet> list() {
+        return null;
+    }
+
+    @Post
+    public Pet save(@Body Pet pet) {
+        return pet;
+    }
+}
+
+@Controller("/owners")
+class OwnerController {
+
+    /**
+     * Owner by name.
+     *
+     * @param name owner name
+     */
+    @Get("/{name}")
+    public Owner get(String name) {
+        return null;
+    }
+}
+
+class Pet {
+
+    public String name;
+    public Owner owner;
+}
+
+class Owner {
+
+    public String name;
+    public int age;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+'''
+
+    @TempDir
+    Path cacheDir
+
+    @RestoreSystemProperties
+    void "test unchanged classes are restored from incremental cache"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, cacheDir.toString())
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+        OpenAPI openApi = Utils.testReference
+        String expected = Utils.getYamlMapper().writeValueAsString(openApi)
+
+        then:
+        Files.exists(cacheDir.resolve("fragments.json"))
+        FragmentCache.restoredCount == 0
+        FragmentCache.processedCount == 2
+
+        when:
+        Utils.clean()
+        buildBeanDefinition('test.MyBean', SOURCE)
+        openApi = Utils.testReference
+
+        then:
+        FragmentCache.restoredCount == 2
+        FragmentCache.processedCount == 0
+        openApi.paths.size() == 3
+        openApi.components.schemas.size() == 2
+        openApi.tags.size() == 1
+        openApi.tags[0].description == 'Pets API'
+        Utils.getYamlMapper().writeValueAsString(openApi) == expected
+    }
+
+    @RestoreSystemProperties
+    void "test components of unchanged secured classes are restored from incremental cache"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, cacheDir.toString())
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_CONFIG_FILE_LOCATIONS, "project:/src/test/resources/")
+        System.setProperty(Environment.ENVIRONMENTS_PROPERTY, "security")
+        String source = '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.security.annotation.Secured;
+import io.micronaut.security.rules.SecurityRule;
+import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.security.SecurityScheme;
+
+@Secured(SecurityRule.IS_AUTHENTICATED)
+@Controller("/pets")
+class PetController {
+
+    @Get("/{name}")
+    public Pet get(String name) {
+        return null;
+    }
+}
+
+@SecurityScheme(name = "apiKey", type = SecuritySchemeType.APIKEY, paramName = "X-API-KEY")
+@Secured(SecurityRule.IS_AUTHENTICATED)
+@Controller("/owners")
+class OwnerController {
+
+    @SecurityRequirement(name = "apiKey")
+    @Get("/{name}")
+    public Pet get(String name) {
+        return null;
+    }
+}
+
+class Pet {
+
+    public String name;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+'''
+
+        when:
+        buildBeanDefinition('test.MyBean', source)
+        OpenAPI openApi = Utils.testReference
+        String expected = Utils.getYamlMapper().writeValueAsString(openApi)
+
+        then:
+        FragmentCache.processedCount == 2
+        openApi.components.securitySchemes.keySet() == ['Authorization', 'apiKey'] as Set
+
+        when:
+        Utils.clean()
+        buildBeanDefinition('test.MyBean', source)
+        openApi = Utils.testReference
+
+        then:
+        FragmentCache.restoredCount == 2
+        FragmentCache.processedCount == 0
+        openApi.components.securitySchemes.keySet() == ['Authorization', 'apiKey'] as Set
+        openApi.paths.'/pets/{name}'.get.security[0].containsKey('Authorization')
+        Utils.getYamlMapper().writeValueAsString(openApi) == expected
+        Utils.endpointInfos.values().flatten().every { it.method != null && it.method.name == 'get' }
+    }
+
+    @RestoreSystemProperties
+    void "test changed classes are processed again"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, cacheDir.toString())
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+        Utils.clean()
+        // Owner type is used by both controllers, so both of them must be processed again
+        def changedSource = SOURCE.replace('public int age;', 'public int age;\n    public String email;')
+        buildBeanDefinition('test.MyBean', changedSource)
+        OpenAPI openApi = Utils.testReference
+
+        then:
+        FragmentCache.restoredCount == 0
+        FragmentCache.processedCount == 2
+        openApi.components.schemas.Owner.properties.size() == 3
+
+        when:
+        Utils.clean()
+        buildBeanDefinition('test.MyBean', changedSource.replace('Owner by name.', 'Find owner by name.'))
+        openApi = Utils.testReference
+
+        then:
+        FragmentCache.restoredCount == 1
+        FragmentCache.processedCount == 1
+        openApi.paths.'/owners/{name}'.get.description == 'Find owner by name.'
+        openApi.components.schemas.Owner.properties.size() == 3
+    }
+
+    @RestoreSystemProperties
+    void "test class referenced only from schema annotation is hashed by structure"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, cacheDir.toString())
+        String source = '''
+package test;
+
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+
+@Controller("/reports")
+class ReportController {
+
+    @Get
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = Report.class)))
+    public HttpResponse<?> get() {
+        return null;
+    }
+}
+
+class Report {
+
+    public String title;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+'''
+
+        when:
+        buildBeanDefinition('test.MyBean', source)
+        OpenAPI openApi = Utils.testReference
+
+        then:
+        FragmentCache.processedCount == 1
+        openApi.components.schemas.Report.properties.keySet() == ['title'] as Set
+
+        when:
+        Utils.clean()
+        buildBeanDefinition('test.MyBean', source.replace('public String title;', 'public String title;\n    public int pages;'))
+        openApi = Utils.testReference
+
+        then:
+        FragmentCache.restoredCount == 0
+        FragmentCache.processedCount == 1
+        openApi.components.schemas.Report.properties.keySet() == ['title', 'pages'] as Set
+    }
+}
@@ -0,0 +1,47 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiUtils
+import io.micronaut.openapi.swagger.core.util.ObjectMapperFactory
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.media.IntegerSchema
+import io.swagger.v3.oas.models.media.ObjectSchema
+import io.swagger.v3.oas.models.media.StringSchema
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class OpenApiMappersPrimingSpec extends Specification {
+
+    void "test mappers are primed only once"() {
+
+        when:
+        def future = OpenApiUtils.primeMappers(openapi31)
+        future.get(30, TimeUnit.SECONDS)
+
+        then:
+        future.isDone()
+        !future.isCompletedExceptionally()
+        OpenApiUtils.primeMappers(openapi31).is(future)
+
+        where:
+        openapi31 << [false, true]
+    }
+
+    void "test primed mapper output is the same (openapi31: #openapi31)"() {
+
+        given:
+        def openApi = new OpenAPI()
+            .schema("Pet", new ObjectSchema()
+                .addProperty("name", new StringSchema().example(null))
+                .addProperty("age", new IntegerSchema()))
+        def cold = openapi31 ? ObjectMapperFactory.createJson31() : ObjectMapperFactory.createJson()
+        def primed = ObjectMapperFactory.prime(openapi31 ? ObjectMapperFactory.createJson31() : ObjectMapperFactory.createJson())
+
+        expect:
+        primed.writeValueAsString(openApi) == cold.writeValueAsString(openApi)
+        primed.readValue(primed.writeValueAsString(openApi), OpenAPI) == cold.readValue(cold.writeValueAsString(openApi), OpenAPI)
+
+        where:
+        openapi31 << [false, true]
+    }
+}
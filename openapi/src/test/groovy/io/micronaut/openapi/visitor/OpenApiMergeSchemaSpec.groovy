@@ -4,10 +4,32 @@ import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
 import io.swagger.v3.oas.models.Components
 import io.swagger.v3.oas.models.OpenAPI
 import io.swagger.v3.oas.models.Operation
+import spock.lang.TempDir
 import spock.util.environment.RestoreSystemProperties
 
+import java.nio.file.Files
+import java.nio.file.Path
+
 class OpenApiMergeSchemaSpec extends AbstractOpenApiTypeElementSpec {
 
+    private static final String SIMPLE_SOURCE = '''
+package test;
+
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.*;
+import io.swagger.v3.oas.annotations.info.*;
+
+@OpenAPIDefinition(info = @Info(title = "the title", version = "0.0"))
+class Application {
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+'''
+
+    @TempDir
+    Path tempDir
+
     @RestoreSystemProperties
     void "test merging of additional OpenAPI schema"() {
         given:
@@ -127,4 +149,75 @@ class MyBean {}
         cleanup:
         System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES)
     }
+
+    @RestoreSystemProperties
+    void "test parallel merge of additional OpenAPI files with cache"() {
+        given:
+        Path filesDir = Files.createDirectories(tempDir.resolve("swagger"))
+        Path cacheDir = tempDir.resolve("cache")
+        Files.copy(Path.of("src/test/resources/swagger/petstore.yml"), filesDir.resolve("petstore.yml"))
+        Files.writeString(filesDir.resolve("users.json"), '''
+{
+  "openapi": "3.0.1",
+  "paths": {
+    "/users": {
+      "get": {
+        "operationId": "listUsers",
+        "responses": {
+          "200": {
+            "description": "OK",
+            "content": {"application/json": {"schema": {"$ref": "#/components/schemas/User"}}}
+          }
+        }
+      }
+    }
+  },
+  "components": {
+    "schemas": {
+      "User": {"type": "object", "properties": {"name": {"type": "string"}}}
+    }
+  }
+}
+''')
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES, filesDir.toString())
+
+        when:
+        buildBeanDefinition('test.MyBean', SIMPLE_SOURCE)
+        String expected = Utils.testYamlReference
+        Utils.clean()
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES_PARALLEL, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_INCREMENTAL_CACHE_DIR, cacheDir.toString())
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLEL_THREADS, "2")
+        buildBeanDefinition('test.MyBean', SIMPLE_SOURCE)
+
+        then:
+        Utils.testReference.paths.size() == 3
+        Utils.testReference.components.schemas.containsKey('User')
+        Utils.getYamlMapper().readValue(Utils.testYamlReference, OpenAPI) == Utils.getYamlMapper().readValue(expected, OpenAPI)
+        AdditionalFilesMerger.parsedCount == 2
+        AdditionalFilesMerger.cachedCount == 0
+        Files.exists(cacheDir.resolve("additional-files").resolve("index.json"))
+
+        when:
+        Utils.clean()
+        buildBeanDefinition('test.MyBean', SIMPLE_SOURCE)
+
+        then:
+        AdditionalFilesMerger.parsedCount == 0
+        AdditionalFilesMerger.cachedCount == 2
+        Utils.getYamlMapper().readValue(Utils.testYamlReference, OpenAPI) == Utils.getYamlMapper().readValue(expected, OpenAPI)
+
+        when:
+        Utils.clean()
+        Files.writeString(filesDir.resolve("users.json"), Files.readString(filesDir.resolve("users.json")).replace('/users', '/accounts'))
+        Files.setLastModifiedTime(filesDir.resolve("users.json"), java.nio.file.attribute.FileTime.fromMillis(System.currentTimeMillis() + 10_000))
+        buildBeanDefinition('test.MyBean', SIMPLE_SOURCE)
+
+        then:
+        AdditionalFilesMerger.parsedCount == 1
+        AdditionalFilesMerger.cachedCount == 1
+        Utils.testReference.paths.containsKey('/accounts')
+        !Utils.testReference.paths.containsKey('/users')
+    }
 }
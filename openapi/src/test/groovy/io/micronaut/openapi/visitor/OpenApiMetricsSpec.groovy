@@ -0,0 +1,90 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import spock.util.environment.RestoreSystemProperties
+
+class OpenApiMetricsSpec extends AbstractOpenApiTypeElementSpec {
+
+    @RestoreSystemProperties
+    void "test processing metrics are collected"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_METRICS_ENABLED, "true")
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import java.util.List;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+
+@Controller("/pets")
+class PetController {
+
+    @Get
+    public List<Pet> list() {
+        return null;
+    }
+
+    @Get("/{name}")
+    public Pet get(String name) {
+        return null;
+    }
+}
+
+class Pet {
+
+    public String name;
+    public Pet parent;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        def report = ProcessingMetrics.toJson()
+        def phases = report.get("phases")
+
+        then:
+        Utils.testReference != null
+        phases.get(ProcessingMetrics.PHASE_VISIT_CLASS).get("calls").asLong() >= 1
+        phases.get(ProcessingMetrics.PHASE_VISIT_METHOD).get("calls").asLong() >= 2
+        phases.get(ProcessingMetrics.PHASE_RESOLVE_SCHEMA).get("calls").asLong() > 0
+        phases.get(ProcessingMetrics.PHASE_FINISH).get("calls").asLong() == 1
+        phases.get(ProcessingMetrics.PHASE_FINISH).get("wallTimeMillis").asDouble() > 0
+        phases.get(ProcessingMetrics.PHASE_POST_PROCESS).get("calls").asLong() == 1
+        phases.get(ProcessingMetrics.PHASE_NORMALIZE).get("calls").asLong() == 1
+        phases.get(ProcessingMetrics.PHASE_SERIALIZE).get("calls").asLong() == 1
+        phases.get(ProcessingMetrics.PHASE_WRITE).get("calls").asLong() == 1
+        report.get("stringPool").get("duplicates").asLong() > 0
+        report.get("stringPool").get("savedBytes").asLong() > 0
+    }
+
+    void "test processing metrics are disabled by default"() {
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+
+@Controller("/pets")
+class PetController {
+
+    @Get
+    public String list() {
+        return null;
+    }
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+
+        then:
+        Utils.testReference != null
+        ProcessingMetrics.toJson().get("phases").isEmpty()
+    }
+}
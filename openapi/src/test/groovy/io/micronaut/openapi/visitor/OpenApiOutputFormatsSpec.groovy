@@ -0,0 +1,92 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.swagger.v3.oas.models.OpenAPI
+import spock.util.environment.RestoreSystemProperties
+
+class OpenApiOutputFormatsSpec extends AbstractOpenApiTypeElementSpec {
+
+    private static final String SOURCE = '''
+package test;
+
+import java.util.List;
+
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+
+@OpenAPIDefinition(info = @Info(title = "Formats", version = "1.0"))
+class Application {
+}
+
+@Controller("/pets")
+class PetController {
+
+    @Get
+    public List<Pet> list(@QueryValue String name) {
+        return null;
+    }
+}
+
+class Pet {
+
+    public String name;
+    public int age;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+'''
+
+    @RestoreSystemProperties
+    void "test write all output formats"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_FORMATS, "yaml, json,json-min")
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+        OpenAPI openApi = Utils.testReference
+        def files = Utils.testFileReferences
+
+        then:
+        Utils.testFileName == 'formats-1.0.yml'
+        files.keySet() == ['formats-1.0.yml', 'formats-1.0.json', 'formats-1.0.min.json'] as Set
+        Utils.testYamlReference == files['formats-1.0.yml']
+        files['formats-1.0.yml'] == Utils.getYamlMapper().writeValueAsString(openApi)
+        files['formats-1.0.json'] == Utils.getJsonMapper().writerWithDefaultPrettyPrinter().writeValueAsString(openApi)
+        files['formats-1.0.min.json'] == Utils.getJsonMapper().writeValueAsString(openApi)
+        Utils.getYamlMapper().readValue(files['formats-1.0.yml'], OpenAPI) == Utils.getJsonMapper().readValue(files['formats-1.0.json'], OpenAPI)
+        Utils.getJsonMapper().readValue(files['formats-1.0.json'], OpenAPI) == Utils.getJsonMapper().readValue(files['formats-1.0.min.json'], OpenAPI)
+    }
+
+    @RestoreSystemProperties
+    void "test first output format is the main format"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_FORMATS, "json-min,yaml,unknown,yaml")
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+
+        then:
+        Utils.testFileName == 'formats-1.0.min.json'
+        Utils.testJsonReference == Utils.testFileReferences['formats-1.0.min.json']
+        Utils.testFileReferences.keySet() == ['formats-1.0.min.json', 'formats-1.0.yml'] as Set
+    }
+
+    @RestoreSystemProperties
+    void "test legacy json format"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT, "true")
+
+        when:
+        buildBeanDefinition('test.MyBean', SOURCE)
+
+        then:
+        Utils.testFileName == 'formats-1.0.json'
+        Utils.testFileReferences.keySet() == ['formats-1.0.json'] as Set
+        Utils.testJsonReference == Utils.getJsonMapper().writeValueAsString(Utils.testReference)
+    }
+}
@@ -139,4 +139,23 @@ class MyBean {}
         System.clearProperty("app.version")
         System.clearProperty("app.description")
     }
+
+    void "test expandable properties expander"() {
+
+        when:
+        def expander = new PlaceholderExpander([
+            'api.version': 'v1',
+            'api.path'   : '/api/${api.version}',
+            'price'      : '$10',
+        ])
+
+        then:
+        expander.expand('no placeholders').is('no placeholders')
+        expander.expand('${unknown}') == '${unknown}'
+        expander.expand('${api.version}') == 'v1'
+        expander.expand('${apiXversion}') == '${apiXversion}'
+        expander.expand('${api.path}/pets') == '/api/v1/pets'
+        expander.expand('${unknown ${api.version}} and ${price}') == '${unknown v1} and $10'
+        expander.expand('${api.version') == '${api.version'
+    }
 }
@@ -1135,4 +1135,75 @@ class MyBean {}
         schema.properties.withInnerClass.allOf[0].$ref == "#/components/schemas/GenObject<<<List<<<PubGenObject<<<PubGenObject&&&ListInnerItem<<<<<<<<<"
         schema.properties.withInnerClass.allOf[1].maxItems == 10
     }
+
+    void "test resolved generic schemas are reused"() {
+        given:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Put;
+
+@Controller
+class MyController {
+
+    @Get("/pet")
+    public Envelope<Pet> getPet() {
+        return null;
+    }
+
+    @Get("/owner")
+    public Envelope<Owner> getOwner() {
+        return null;
+    }
+
+    @Post("/pet")
+    public Envelope<Pet> savePet(@Body Pet pet) {
+        return null;
+    }
+
+    @Put("/pet")
+    public Envelope<Pet> updatePet(@Body Pet pet) {
+        return null;
+    }
+}
+
+class Envelope<T> {
+
+    public T data;
+    public String error;
+}
+
+class Pet {
+
+    public String name;
+}
+
+class Owner {
+
+    public String name;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+
+        when:
+        OpenAPI openAPI = Utils.testReference
+        def schemas = openAPI.components.schemas
+
+        then:
+        schemas.size() == 4
+        schemas.Envelope_Pet_.properties.data.$ref == '#/components/schemas/Pet'
+        schemas.Envelope_Owner_.properties.data.$ref == '#/components/schemas/Owner'
+        openAPI.paths.'/pet'.get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Envelope_Pet_'
+        openAPI.paths.'/pet'.post.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Envelope_Pet_'
+        openAPI.paths.'/pet'.put.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Envelope_Pet_'
+        openAPI.paths.'/pet'.put.requestBody.content.'application/json'.schema.$ref == '#/components/schemas/Pet'
+        openAPI.paths.'/owner'.get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/Envelope_Owner_'
+        SchemaDefinitionUtils.resolvedSchemaHits > 0
+    }
 }
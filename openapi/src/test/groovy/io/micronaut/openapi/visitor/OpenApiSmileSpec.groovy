@@ -0,0 +1,70 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.micronaut.openapi.OpenApiUtils
+import spock.util.environment.RestoreSystemProperties
+
+class OpenApiSmileSpec extends AbstractOpenApiTypeElementSpec {
+
+    @RestoreSystemProperties
+    void "test Smile file is written and read back (openapi31: #openapi31)"() {
+
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_31_ENABLED, openapi31.toString())
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_SMILE_ENABLED, "true")
+
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import java.util.List;
+import java.util.Map;
+
+import io.micronaut.http.annotation.*;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@OpenAPIDefinition(info = @Info(title = "Smile", version = "1.0"))
+class Application {
+}
+
+@Controller("/pets")
+class PetController {
+
+    @Get
+    public List<Pet> list(@QueryValue String name) {
+        return null;
+    }
+
+    @Post
+    public Map<String, Pet> save(@Body Pet pet) {
+        return null;
+    }
+}
+
+class Pet {
+
+    @Schema(example = "Tom", nullable = true)
+    public String name;
+    public int age;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+        def smileFileName = Utils.testFileName.replace('.yml', '.smile')
+        byte[] bytes = Utils.testBinaryFileReferences[smileFileName]
+        def loaded = OpenApiUtils.readSmile(new ByteArrayInputStream(bytes), openapi31)
+
+        then:
+        Utils.testBinaryFileReferences.keySet() == [smileFileName] as Set
+        // Smile header
+        new String(bytes, 0, 2) == ':)'
+        Utils.getYamlMapper().writeValueAsString(loaded) == Utils.testYamlReference
+        bytes.length < Utils.testYamlReference.length()
+
+        where:
+        openapi31 << [false, true]
+    }
+}
@@ -0,0 +1,73 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiStringPool
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.OpenAPI
+import spock.lang.Specification
+
+class OpenApiStringPoolSpec extends Specification {
+
+    void setup() {
+        OpenApiStringPool.reset()
+    }
+
+    void "test duplicates are replaced by canonical instance"() {
+
+        given:
+        def first = new String("#/components/schemas/PooledPet".toCharArray())
+        def second = new String("#/components/schemas/PooledPet".toCharArray())
+
+        when:
+        def pooledFirst = OpenApiStringPool.intern(first)
+        def pooledSecond = OpenApiStringPool.intern(second)
+
+        then:
+        pooledFirst.is(pooledSecond)
+        OpenApiStringPool.intern(null) == null
+        OpenApiStringPool.getDuplicates() >= 1
+        OpenApiStringPool.getSavedBytes() >= 24 + 16 + second.length()
+    }
+
+    void "test schema refs are pooled"() {
+
+        expect:
+        SchemaUtils.schemaRef('PooledPet').is(SchemaUtils.schemaRef('PooledPet'))
+    }
+
+    void "test deserialized refs, types and formats are pooled (openapi31: #openapi31)"() {
+
+        given:
+        def mapper = openapi31 ? OpenApiUtils.getYamlMapper31() : OpenApiUtils.getYamlMapper()
+
+        when:
+        OpenAPI openApi = mapper.readValue('''
+openapi: 3.0.1
+components:
+  schemas:
+    Pet:
+      type: object
+      properties:
+        parent:
+          $ref: '#/components/schemas/Pet'
+        child:
+          $ref: '#/components/schemas/Pet'
+        created:
+          type: string
+          format: date-time
+        updated:
+          type: string
+          format: date-time
+''', OpenAPI)
+        def properties = openApi.components.schemas.Pet.properties
+
+        then:
+        properties.parent.$ref.is(properties.child.$ref)
+        properties.created.format.is(properties.updated.format)
+        (openapi31 ? properties.created.types.first() : properties.created.type)
+            .is(openapi31 ? properties.updated.types.first() : properties.updated.type)
+        OpenApiStringPool.getDuplicates() > 0
+
+        where:
+        openapi31 << [false, true]
+    }
+}